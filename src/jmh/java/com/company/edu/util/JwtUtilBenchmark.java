@@ -0,0 +1,72 @@
+package com.company.edu.util;
+
+import com.company.edu.dto.user.CustomUserInfoDto;
+import com.company.edu.entity.user.RoleType;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 파싱/검증 처리량 (인증이 필요한 모든 요청 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private String validToken;
+    private String expiredToken;
+    private String tamperedToken;
+    private String garbageToken;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        String encoded = Encoders.BASE64.encode(secret);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(encoded));
+
+        CustomUserInfoDto member = new CustomUserInfoDto(1L, "teacher@example.com", "선생님", null, RoleType.TEACHER);
+        jwtUtil = new JwtUtil(encoded, 3600);
+        validToken = jwtUtil.createAccessToken(member);
+        expiredToken = new JwtUtil(encoded, -60).createAccessToken(member);
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + "xx";
+        garbageToken = "not-a-token";
+    }
+
+    @Benchmark
+    public Object verifyValid() {
+        return jwtUtil.verify(validToken);
+    }
+
+    @Benchmark
+    public Object verifyExpired() {
+        return jwtUtil.verify(expiredToken);
+    }
+
+    @Benchmark
+    public Object verifyTampered() {
+        return jwtUtil.verify(tamperedToken);
+    }
+
+    @Benchmark
+    public Object verifyGarbage() {
+        return jwtUtil.verify(garbageToken);
+    }
+
+    /**
+     * 비교용: 요청마다 파서를 만들던 이전 방식
+     */
+    @Benchmark
+    public Object parserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(validToken).getBody();
+    }
+}
@@ -12,7 +12,13 @@ public enum WorksheetErrorCode implements ErrorCode{
     WORKSHEET_ACCESS_DENIED(HttpStatus.FORBIDDEN, "학습지에 접근할 권한이 없습니다"),
     PDF_GENERATION_FAILED(HttpStatus.BAD_REQUEST, "PDF 생성에 실패했습니다"),
     NO_PROBLEMS_FOUND(HttpStatus.BAD_REQUEST, "학습지에 문제가 없습니다"),
-    IMAGE_LOAD_FAILED(HttpStatus.BAD_REQUEST, "이미지 로드에 실패했습니다");
+    IMAGE_LOAD_FAILED(HttpStatus.BAD_REQUEST, "이미지 로드에 실패했습니다"),
+    PDF_RENDER_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "PDF 생성 작업을 찾을 수 없습니다"),
+    PDF_RENDER_JOB_NOT_READY(HttpStatus.CONFLICT, "PDF가 아직 생성되지 않았습니다"),
+    PDF_RENDER_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "PDF 생성 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+    PDF_RENDER_TOO_MANY_JOBS(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 PDF 생성 요청이 너무 많습니다"),
+    PDF_EXPORT_TOO_MANY_WORKSHEETS(HttpStatus.BAD_REQUEST, "한 번에 내보낼 수 있는 학습지 수를 초과했습니다"),
+    AUTO_GRADING_DISABLED(HttpStatus.BAD_REQUEST, "자동 채점을 사용하지 않는 학습지입니다");
 
     private final HttpStatus httpStatus;
 
@@ -0,0 +1,37 @@
+package com.company.edu.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 IP 기준
+ * 프록시 뒤에서만 X-Forwarded-For를 믿는다 (직접 노출된 서버에서는 위조 가능).
+ * 프록시는 헤더 끝에 주소를 덧붙이므로 왼쪽 값은 클라이언트가 마음대로 넣을 수 있다.
+ * 그래서 오른쪽에서 신뢰하는 프록시 수(trustedProxies)번째 값, 즉 가장 바깥 프록시가 본 주소를 쓴다.
+ */
+public class IpKeyResolver implements RateLimitKeyResolver {
+
+    private final int trustedProxies;
+
+    /**
+     * @param trustedProxies 앞단 프록시 수 (0이면 X-Forwarded-For를 보지 않음)
+     */
+    public IpKeyResolver(int trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        if (trustedProxies > 0) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                String[] hops = forwardedFor.split(",");
+                // 항목이 프록시 수보다 적으면 가장 왼쪽 값
+                String client = hops[Math.max(0, hops.length - trustedProxies)].trim();
+                if (!client.isEmpty()) {
+                    return "ip:" + client;
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,28 @@
+package com.company.edu.common.ratelimit;
+
+import com.company.edu.config.user.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 로그인한 회원 ID 기준 (인증 전이면 IP 기준)
+ * JwtAuthFilter 뒤에서 실행되어야 한다.
+ */
+public class MemberKeyResolver implements RateLimitKeyResolver {
+
+    private final RateLimitKeyResolver anonymousResolver;
+
+    public MemberKeyResolver(RateLimitKeyResolver anonymousResolver) {
+        this.anonymousResolver = anonymousResolver;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails details) {
+            return "member:" + details.getMember().getMemberId();
+        }
+        return anonymousResolver.resolve(request);
+    }
+}
@@ -0,0 +1,11 @@
+package com.company.edu.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청에서 제한 대상 키를 뽑는 방식
+ */
+public interface RateLimitKeyResolver {
+
+    String resolve(HttpServletRequest request);
+}
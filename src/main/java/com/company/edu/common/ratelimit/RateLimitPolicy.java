@@ -0,0 +1,27 @@
+package com.company.edu.common.ratelimit;
+
+/**
+ * 토큰 버킷 정책: 최대 capacity번까지 연속 허용, period 동안 capacity개가 고르게 다시 채워짐
+ *
+ * @param capacity       버킷 크기 (연속 허용 횟수)
+ * @param periodMillis   버킷이 비었다가 가득 찰 때까지 걸리는 시간
+ */
+public record RateLimitPolicy(int capacity, long periodMillis) {
+
+    public RateLimitPolicy {
+        if (capacity < 1 || periodMillis < 1) {
+            throw new IllegalArgumentException("capacity, periodMillis는 1 이상이어야 합니다.");
+        }
+    }
+
+    public static RateLimitPolicy perSeconds(int capacity, long seconds) {
+        return new RateLimitPolicy(capacity, seconds * 1000);
+    }
+
+    /**
+     * ms당 채워지는 토큰 수
+     */
+    double refillPerMilli() {
+        return (double) capacity / periodMillis;
+    }
+}
@@ -0,0 +1,14 @@
+package com.company.edu.common.ratelimit;
+
+import java.util.List;
+
+/**
+ * 경로별 요청 제한 규칙
+ *
+ * @param scope        버킷 구분 이름
+ * @param method       HTTP 메서드 (null이면 전체)
+ * @param pathPatterns Ant 경로 패턴
+ */
+public record RateLimitRule(String scope, String method, List<String> pathPatterns,
+                            RateLimitPolicy policy, RateLimitKeyResolver keyResolver) {
+}
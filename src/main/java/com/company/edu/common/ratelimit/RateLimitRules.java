@@ -0,0 +1,46 @@
+package com.company.edu.common.ratelimit;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * RateLimitFilter에 적용할 규칙 (로그인/비밀번호 찾기는 IP, PDF/자동 채점은 회원 기준)
+ */
+@Component
+@Getter
+public class RateLimitRules {
+
+    private final List<RateLimitRule> rules;
+
+    public RateLimitRules(@Value("${app.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor,
+                          @Value("${app.rate-limit.trusted-proxies:1}") int trustedProxies,
+                          @Value("${app.rate-limit.login.capacity:10}") int loginCapacity,
+                          @Value("${app.rate-limit.login.period-seconds:60}") long loginPeriod,
+                          @Value("${app.rate-limit.search-pwd.capacity:5}") int searchPwdCapacity,
+                          @Value("${app.rate-limit.search-pwd.period-seconds:600}") long searchPwdPeriod,
+                          @Value("${app.rate-limit.pdf.capacity:30}") int pdfCapacity,
+                          @Value("${app.rate-limit.pdf.period-seconds:60}") long pdfPeriod,
+                          @Value("${app.rate-limit.grade.capacity:20}") int gradeCapacity,
+                          @Value("${app.rate-limit.grade.period-seconds:60}") long gradePeriod) {
+        RateLimitKeyResolver ip = new IpKeyResolver(trustForwardedFor ? trustedProxies : 0);
+        RateLimitKeyResolver member = new MemberKeyResolver(ip);
+
+        this.rules = List.of(
+                new RateLimitRule("login", "POST", List.of("/api/v1/auth/login"),
+                        RateLimitPolicy.perSeconds(loginCapacity, loginPeriod), ip),
+                new RateLimitRule("search-pwd", "POST", List.of("/api/v1/auth/search_pwd"),
+                        RateLimitPolicy.perSeconds(searchPwdCapacity, searchPwdPeriod), ip),
+                new RateLimitRule("pdf", null, List.of(
+                        "/api/worksheet/*/preview/**",
+                        "/api/worksheet/preview/jobs/*/download",
+                        "/api/worksheet/export/pdf"),
+                        RateLimitPolicy.perSeconds(pdfCapacity, pdfPeriod), member),
+                // 채점 결과가 문제 통계와 난이도 보정에 반영되므로 제출 횟수 제한
+                new RateLimitRule("grade", "POST", List.of("/api/worksheet/*/grade"),
+                        RateLimitPolicy.perSeconds(gradeCapacity, gradePeriod), member)
+        );
+    }
+}
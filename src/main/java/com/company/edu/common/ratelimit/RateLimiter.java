@@ -0,0 +1,112 @@
+package com.company.edu.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키별 토큰 버킷 요청 제한
+ *
+ * 버킷 갱신은 ConcurrentHashMap.compute로 키 단위 원자적으로 처리한다.
+ * 가득 찬 버킷은 새 버킷과 같으므로 스케줄러가 주기적으로 지운다.
+ * 키 수가 max-keys에 닿으면 요청 스레드에서는 전체를 훑지 않고, 몇 개만 표본으로 골라
+ * 가장 먼저 가득 차는(가장 한가한) 버킷 하나를 내보낸 뒤 새 키를 넣는다.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    // 가득 찼을 때 내보낼 버킷을 고르는 표본 수
+    private static final int EVICTION_SAMPLES = 8;
+
+    /**
+     * 제한 결과
+     *
+     * @param retryAfterMillis 거부된 경우 다음 요청까지 기다려야 하는 시간
+     */
+    public record Decision(boolean allowed, long retryAfterMillis) {
+    }
+
+    private record Bucket(double tokens, long updatedAt, long fullAt, boolean lastAllowed) {
+    }
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final int maxKeys;
+
+    public RateLimiter(@Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 요청 1회 소비 시도
+     *
+     * @param scope  제한 구분 (예: login, pdf)
+     * @param key    제한 대상 (IP, 이메일, 회원 ID 등)
+     */
+    public Decision tryAcquire(String scope, String key, RateLimitPolicy policy) {
+        String bucketKey = scope + ':' + key;
+        long now = System.currentTimeMillis();
+        if (buckets.size() >= maxKeys && !buckets.containsKey(bucketKey)) {
+            evictOne(now);
+        }
+
+        Bucket bucket = buckets.compute(bucketKey, (k, current) -> consume(current, policy, now));
+        if (bucket.lastAllowed()) {
+            return new Decision(true, 0);
+        }
+        long retryAfter = (long) Math.ceil((1 - bucket.tokens()) / policy.refillPerMilli());
+        return new Decision(false, Math.max(1, retryAfter));
+    }
+
+    private static Bucket consume(Bucket current, RateLimitPolicy policy, long now) {
+        double rate = policy.refillPerMilli();
+        double tokens = current == null
+                ? policy.capacity()
+                : Math.min(policy.capacity(), current.tokens() + (now - current.updatedAt()) * rate);
+
+        boolean allowed = tokens >= 1;
+        if (allowed) {
+            tokens -= 1;
+        }
+        long fullAt = now + (long) Math.ceil((policy.capacity() - tokens) / rate);
+        return new Bucket(tokens, now, fullAt, allowed);
+    }
+
+    /**
+     * 표본 중 가장 먼저 가득 차는 버킷 하나 제거 (이미 가득 찬 버킷이 있으면 바로 그것)
+     */
+    private void evictOne(long now) {
+        String victim = null;
+        long victimFullAt = Long.MAX_VALUE;
+        int sampled = 0;
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            long fullAt = entry.getValue().fullAt();
+            if (fullAt < victimFullAt) {
+                victim = entry.getKey();
+                victimFullAt = fullAt;
+            }
+            if (fullAt <= now || ++sampled >= EVICTION_SAMPLES) {
+                break;
+            }
+        }
+        if (victim != null) {
+            buckets.remove(victim);
+        }
+    }
+
+    /**
+     * 다시 가득 찬 버킷 제거 (없는 키와 동일하게 동작)
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-interval-ms:60000}")
+    public void removeIdle() {
+        long now = System.currentTimeMillis();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.fullAt() <= now);
+        log.debug("요청 제한 버킷 정리: {} -> {}", before, buckets.size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.company.edu.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * PDF 전용 스레드 풀
+ *
+ * Executor 빈이 하나라도 있으면 Boot가 기본 applicationTaskExecutor를 만들지 않으므로 여기서 직접 등록한다.
+ * MVC 비동기 응답(StreamingResponseBody)은 applicationTaskExecutor, @Async는 taskExecutor 이름으로 찾으므로
+ * 두 이름을 모두 붙이고, PDF 풀은 @Qualifier로 이름을 지정해서만 쓴다.
+ */
+@Configuration
+public class PdfExecutorConfig {
+
+    /**
+     * 기본 작업 풀 (spring.task.execution.* 설정 적용)
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * PDF 이미지 미리 읽기용 풀 (큐가 차면 요청 스레드가 직접 읽음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor pdfImagePrefetchExecutor(
+            @Value("${app.pdf.prefetch.threads:8}") int threads,
+            @Value("${app.pdf.prefetch.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pdf-image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * PDF 렌더링 작업 워커 (대기열 상한은 PdfRenderJobService가 관리)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor pdfRenderExecutor(@Value("${app.pdf.render.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("pdf-render-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일괄 내보내기 렌더링 풀 (모든 내보내기 요청이 공유하므로 전체 동시 렌더링 수가 제한됨)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor pdfExportExecutor(@Value("${app.pdf.export.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("pdf-export-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,10 +1,15 @@
 package com.company.edu.config;
 
+import com.company.edu.common.ratelimit.RateLimitRules;
+import com.company.edu.common.ratelimit.RateLimiter;
 import com.company.edu.config.filter.JwtAuthFilter;
+import com.company.edu.config.filter.RateLimitFilter;
 import com.company.edu.config.handler.auth.CustomAccessDeniedHandler;
 import com.company.edu.config.handler.auth.CustomAuthenticationEntryPointHandler;
 import com.company.edu.config.user.CustomUserDetailsService;
+import com.company.edu.service.auth.TokenRevocationService;
 import com.company.edu.util.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -36,6 +41,10 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final RateLimiter rateLimiter;
+    private final RateLimitRules rateLimitRules;
+    private final ObjectMapper objectMapper;
 
     private final CustomAuthenticationEntryPointHandler authenticationEntryPointHandler;
     private final CustomAccessDeniedHandler accessDeniedHandler;
@@ -59,11 +68,16 @@ public class SecurityConfig {
         http.authorizeHttpRequests(authorize -> authorize
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers("/api/v1/auth/**").permitAll()
+                // 예전 버전이 uploadDir 아래에 남긴 PDF 캐시는 공개하지 않음
+                .requestMatchers("/uploads/pdf-cache/**").denyAll()
                 .requestMatchers("/uploads/**").permitAll()
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
         );
 
-        http.addFilterBefore(new JwtAuthFilter(customUserDetailsService, jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthFilter(customUserDetailsService, jwtUtil, tokenRevocationService), UsernamePasswordAuthenticationFilter.class);
+        // 회원 기준 제한을 위해 JWT 인증 뒤에 둠
+        http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitRules.getRules(), objectMapper), JwtAuthFilter.class);
 
         http.exceptionHandling((exceptionHandling) -> exceptionHandling
                 .authenticationEntryPoint(authenticationEntryPointHandler)
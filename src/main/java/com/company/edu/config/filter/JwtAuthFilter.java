@@ -1,7 +1,9 @@
 package com.company.edu.config.filter;
 
 import com.company.edu.config.user.CustomUserDetailsService;
+import com.company.edu.service.auth.TokenRevocationService;
 import com.company.edu.util.JwtUtil;
+import com.company.edu.util.TokenVerification;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +26,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
 
+    private final TokenRevocationService tokenRevocationService;
+
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     private static final List<String> EXCLUDED_PATHS = Arrays.asList(
@@ -41,12 +45,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         //JWT가 헤더에 있는 경우
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String token = authorizationHeader.substring(7);
-            //JWT 유효성 검증
-            if (jwtUtil.validateToken(token)) {
-                Long userId = jwtUtil.getUserId(token);
-
-                //유저와 토큰 일치 시 userDetails 생성
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(userId.toString());
+            //JWT 유효성 검증 (파싱/서명 검증은 한 번만)
+            TokenVerification verification = jwtUtil.verify(token);
+            //폐기된 토큰(로그아웃, 비밀번호 재설정)은 인증하지 않음
+            if (verification.isValid() && !tokenRevocationService.isRevoked(verification.claims())) {
+                //토큰 클레임(캐시)으로 userDetails 생성, 무효화된 회원만 DB 조회
+                UserDetails userDetails = customUserDetailsService.loadUserByClaims(verification.claims());
 
                 if (userDetails != null) {
                     //UserDetsils, Password, Role -> 접근권한 인증 Token 생성
@@ -0,0 +1,78 @@
+package com.company.edu.config.filter;
+
+import com.company.edu.common.code.error.CommonErrorCode;
+import com.company.edu.common.ratelimit.RateLimitRule;
+import com.company.edu.common.ratelimit.RateLimiter;
+import com.company.edu.common.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 경로별 요청 제한 필터 (JwtAuthFilter 뒤에 둬야 회원 기준 규칙이 동작함)
+ * 처음 일치하는 규칙 하나만 적용하고, 초과하면 429와 Retry-After를 반환한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final List<RateLimitRule> rules;
+
+    private final ObjectMapper objectMapper;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRule rule = findRule(request);
+        if (rule != null) {
+            String key = rule.keyResolver().resolve(request);
+            RateLimiter.Decision decision = rateLimiter.tryAcquire(rule.scope(), key, rule.policy());
+            if (!decision.allowed()) {
+                log.info("요청 제한 초과: scope={}, key={}, uri={}", rule.scope(), key, request.getRequestURI());
+                reject(response, decision.retryAfterMillis());
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitRule findRule(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (RateLimitRule rule : rules) {
+            if (rule.method() != null && !rule.method().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            for (String pattern : rule.pathPatterns()) {
+                if (pathMatcher.match(pattern, uri)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        CommonErrorCode errorCode = CommonErrorCode.TOO_MANY_REQUESTS;
+        ErrorResponse errorResponse = new ErrorResponse(errorCode.name(), errorCode.getMessage());
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString((retryAfterMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
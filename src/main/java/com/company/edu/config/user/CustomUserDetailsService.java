@@ -2,9 +2,10 @@ package com.company.edu.config.user;
 
 import com.company.edu.dto.user.CustomUserInfoDto;
 import com.company.edu.entity.user.Member;
+import com.company.edu.entity.user.RoleType;
 import com.company.edu.repository.user.MemberRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,21 +13,50 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
-    private final ModelMapper modelMapper;
+    private final PrincipalCache principalCache;
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String id) throws UsernameNotFoundException {
         Member member = memberRepository.findById(Long.parseLong(id))
                 .orElseThrow(() -> new UsernameNotFoundException("해당하는 유저가 없습니다."));
 
-        CustomUserInfoDto dto = modelMapper.map(member, CustomUserInfoDto.class);
+        CustomUserInfoDto dto = new CustomUserInfoDto(member.getMemberId(), member.getEmail(), member.getName(),
+                member.getPassword(), member.getRole());
 
         return new CustomUserDetails(dto);
 
     }
+
+    /**
+     * 검증된 토큰 클레임으로 사용자 정보 생성 (캐시 → 클레임 → DB 순)
+     * 무효화 이전에 발급된 토큰이거나 클레임이 부족한 예전 토큰만 DB를 조회한다.
+     */
+    public CustomUserDetails loadUserByClaims(Claims claims) {
+        Long memberId = claims.get("memberId", Long.class);
+
+        CustomUserDetails cached = principalCache.get(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        String email = claims.get("email", String.class);
+        String name = claims.get("name", String.class);
+        String role = claims.get("role", String.class);
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+
+        CustomUserDetails details;
+        if (email != null && name != null && role != null && principalCache.isIssuedAfterInvalidation(memberId, issuedAt)) {
+            details = new CustomUserDetails(new CustomUserInfoDto(memberId, email, name, null, RoleType.valueOf(role)));
+        } else {
+            details = (CustomUserDetails) loadUserByUsername(memberId.toString());
+        }
+
+        principalCache.put(memberId, details);
+        return details;
+    }
 }
@@ -0,0 +1,87 @@
+package com.company.edu.config.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 사용자 정보 캐시 (회원 ID 기준, 짧은 TTL)
+ *
+ * 비밀번호 재설정이나 권한 변경 시 invalidate()를 호출하면 캐시를 지우고,
+ * 그 시각 이전에 발급된 토큰은 클레임을 믿지 않고 DB에서 다시 읽게 한다.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private record Entry(CustomUserDetails details, long expiresAt) {
+    }
+
+    private final Map<Long, Entry> principals = new ConcurrentHashMap<>();
+    private final Map<Long, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long tokenLifetimeMillis;
+
+    public PrincipalCache(@Value("${app.auth.principal-cache.ttl-ms:60000}") long ttlMillis,
+                          @Value("${app.auth.principal-cache.max-entries:10000}") int maxEntries,
+                          @Value("${jwt.expiration_time}") long accessTokenExpTime) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.tokenLifetimeMillis = accessTokenExpTime * 1000;
+    }
+
+    public CustomUserDetails get(Long memberId) {
+        Entry entry = principals.get(memberId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            principals.remove(memberId, entry);
+            return null;
+        }
+        return entry.details();
+    }
+
+    public void put(Long memberId, CustomUserDetails details) {
+        if (principals.size() >= maxEntries) {
+            removeExpired();
+            if (principals.size() >= maxEntries) {
+                return; // 가득 차면 캐시하지 않음 (다음 요청도 클레임으로 바로 만들 수 있음)
+            }
+        }
+        principals.put(memberId, new Entry(details, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 회원 정보가 바뀌었을 때 호출 (비밀번호 재설정, 권한 변경 등)
+     */
+    public void invalidate(Long memberId) {
+        invalidatedAt.put(memberId, System.currentTimeMillis());
+        principals.remove(memberId);
+        log.info("인증 캐시 무효화: memberId={}", memberId);
+    }
+
+    /**
+     * issuedAt(ms)에 발급된 토큰의 클레임을 그대로 믿어도 되는지
+     */
+    public boolean isIssuedAfterInvalidation(Long memberId, long issuedAt) {
+        Long invalidated = invalidatedAt.get(memberId);
+        return invalidated == null || issuedAt > invalidated;
+    }
+
+    /**
+     * 만료된 항목 정리 (무효화 기록은 그 전에 발급된 토큰이 모두 만료되면 삭제)
+     */
+    @Scheduled(fixedDelayString = "${app.auth.principal-cache.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        principals.values().removeIf(entry -> entry.expiresAt() < now);
+        invalidatedAt.values().removeIf(time -> time + tokenLifetimeMillis < now);
+    }
+}
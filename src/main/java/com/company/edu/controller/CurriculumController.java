@@ -0,0 +1,56 @@
+package com.company.edu.controller;
+
+import com.company.edu.common.code.error.CommonErrorCode;
+import com.company.edu.common.customException.RestApiException;
+import com.company.edu.service.curriculum.CurriculumTreeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class CurriculumController {
+
+    private final CurriculumTreeService curriculumTreeService;
+
+    /**
+     * 교육과정 트리 (미리 직렬화된 JSON, ETag 조건부 요청이면 304)
+     */
+    @GetMapping("/api/curriculum/tree")
+    public ResponseEntity<byte[]> getCurriculumTree(WebRequest webRequest) {
+        CurriculumTreeService.Snapshot snapshot = curriculumTreeService.current();
+        if (snapshot == null) {
+            throw new RestApiException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .eTag(snapshot.etag())
+                .body(snapshot.json());
+    }
+
+    /**
+     * 단원 변경 후 즉시 재적재 (ADMIN 전용)
+     */
+    @PostMapping("/api/admin/curriculum/reload")
+    public ResponseEntity<Map<String, String>> reloadCurriculumTree() {
+        CurriculumTreeService.Snapshot snapshot = curriculumTreeService.reload();
+        if (snapshot == null) {
+            throw new RestApiException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        return ResponseEntity.ok(Map.of("etag", snapshot.etag()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.edu.controller;
+
+import com.company.edu.dto.pdf.LayoutBenchmarkResult;
+import com.company.edu.service.pdf.PdfLayoutBenchmarkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * PDF 운영 도구 (ADMIN 전용, SecurityConfig에서 제한)
+ */
+@RestController
+@RequestMapping("/api/admin/pdf")
+@RequiredArgsConstructor
+public class PdfAdminController {
+
+    private final PdfLayoutBenchmarkService benchmarkService;
+
+    /**
+     * 배치 전략별 페이지 수/렌더링 시간 비교
+     */
+    @GetMapping("/layout-benchmark")
+    public ResponseEntity<List<LayoutBenchmarkResult>> layoutBenchmark(@RequestParam List<Long> worksheetIds,
+                                                                       @RequestParam(defaultValue = "3") int runs) {
+        return ResponseEntity.ok(benchmarkService.run(worksheetIds, runs));
+    }
+}
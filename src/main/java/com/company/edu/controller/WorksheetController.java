@@ -5,23 +5,32 @@ import com.company.edu.common.code.error.UserErrorCode;
 import com.company.edu.common.code.error.WorksheetErrorCode;
 import com.company.edu.common.customException.RestApiException;
 import com.company.edu.config.user.CustomUserDetails;
+import com.company.edu.dto.grading.GradingRequest;
+import com.company.edu.dto.grading.GradingResponse;
+import com.company.edu.dto.pdf.BulkPdfExportRequest;
+import com.company.edu.dto.pdf.PdfRenderJobResponse;
+import com.company.edu.dto.pdf.WorksheetRenderModel;
 import com.company.edu.dto.worksheet.*;
 import com.company.edu.entity.worksheet.Worksheet;
-import com.company.edu.entity.worksheet.WorksheetProblem;
 import com.company.edu.service.ProblemService;
 import com.company.edu.service.WorksheetService;
+import com.company.edu.service.grading.GradingService;
 import com.company.edu.service.pdf.CompletePdfGenerator;
+import com.company.edu.service.pdf.PdfBulkExportService;
+import com.company.edu.service.pdf.PdfCacheService;
+import com.company.edu.service.pdf.PdfRenderJobService;
+import com.company.edu.service.pdf.PdfVariant;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -41,6 +50,10 @@ public class WorksheetController {
     private final WorksheetService worksheetService;
     private final CompletePdfGenerator pdfGenerator;
     private final ProblemService problemService;
+    private final PdfCacheService pdfCacheService;
+    private final PdfRenderJobService pdfRenderJobService;
+    private final PdfBulkExportService pdfBulkExportService;
+    private final GradingService gradingService;
 
     @PostMapping("/generate")
     public ResponseEntity<WorksheetResponse> generateWorksheet(@RequestBody WorksheetRequest request) {
@@ -90,6 +103,13 @@ public class WorksheetController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/add-problems/feed")
+    public ResponseEntity<WorksheetResponse.CandidateFeedResponseDto> getCandidateFeed(@RequestBody WorksheetRequest.CandidateFeedRequestDto request) {
+
+        WorksheetResponse.CandidateFeedResponseDto response = worksheetService.getCandidateFeed(request);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/save")
     public ResponseEntity<?> saveWorksheet(@RequestBody WorksheetRequest.WorksheetCreateRequest request) {
 
@@ -130,11 +150,104 @@ public class WorksheetController {
     }
 
 
-    @Transactional(readOnly = true)
+    /**
+     * 문제지 PDF (answers=false면 정답을 뺀 시험지)
+     */
     @GetMapping("/{worksheetId}/preview/problem")
-    public ResponseEntity<Resource> getWorksheetPreview(@PathVariable Long worksheetId) {
+    public ResponseEntity<StreamingResponseBody> getWorksheetPreview(@PathVariable Long worksheetId,
+                                                                     @RequestParam(defaultValue = "true") boolean answers,
+                                                                     WebRequest webRequest) {
+        return previewPdf(worksheetId, answers ? PdfVariant.PROBLEM_WITH_ANSWER : PdfVariant.PROBLEM_ONLY, webRequest);
+    }
+
+    /**
+     * 빠른 정답 PDF
+     */
+    @GetMapping("/{worksheetId}/preview/answer")
+    public ResponseEntity<StreamingResponseBody> getWorksheetAnswerPreview(@PathVariable Long worksheetId, WebRequest webRequest) {
+        return previewPdf(worksheetId, PdfVariant.ANSWER_GRID, webRequest);
+    }
+
+    /**
+     * 해설지 PDF
+     */
+    @GetMapping("/{worksheetId}/preview/solution")
+    public ResponseEntity<StreamingResponseBody> getWorksheetSolutionPreview(@PathVariable Long worksheetId, WebRequest webRequest) {
+        return previewPdf(worksheetId, PdfVariant.SOLUTION, webRequest);
+    }
+
+    /**
+     * 문제지 PDF 비동기 생성 요청 (작업 ID 반환)
+     */
+    @PostMapping("/{worksheetId}/preview/problem/jobs")
+    public ResponseEntity<PdfRenderJobResponse> submitWorksheetPreviewJob(@PathVariable Long worksheetId) {
+        Worksheet worksheet = worksheetService.getWorksheetById(worksheetId);
+        validateWorksheetAccess(worksheet);
+
+        PdfRenderJobService.Job job = pdfRenderJobService.submit(currentMemberId(), worksheet);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(toJobResponse(job));
+    }
+
+    /**
+     * 비동기 생성 작업 상태/진행률 조회
+     */
+    @GetMapping("/preview/jobs/{jobId}")
+    public ResponseEntity<PdfRenderJobResponse> getWorksheetPreviewJob(@PathVariable String jobId) {
+        PdfRenderJobService.Job job = pdfRenderJobService.getJob(jobId, currentMemberId());
+        return ResponseEntity.ok(toJobResponse(job));
+    }
+
+    /**
+     * 비동기 생성 결과 다운로드
+     */
+    @GetMapping("/preview/jobs/{jobId}/download")
+    public ResponseEntity<StreamingResponseBody> downloadWorksheetPreviewJob(@PathVariable String jobId, WebRequest webRequest) {
+        Long memberId = currentMemberId();
+        PdfRenderJobService.Job job = pdfRenderJobService.getJob(jobId, memberId);
+        PdfCacheService.CachedPdf pdf = pdfRenderJobService.getResult(jobId, memberId);
+        return serveCachedPdf(pdf, previewFileName(job.getTitle(), PdfVariant.PROBLEM_WITH_ANSWER), webRequest);
+    }
+
+    /**
+     * 답안지 자동 채점 (자동 채점이 설정된 학습지만)
+     */
+    @PostMapping("/{worksheetId}/grade")
+    public ResponseEntity<GradingResponse> gradeWorksheet(@PathVariable Long worksheetId,
+                                                          @Valid @RequestBody GradingRequest request) {
+        Worksheet worksheet = worksheetService.getWorksheetById(worksheetId);
+        validateWorksheetAccess(worksheet);
+
+        return ResponseEntity.ok(gradingService.grade(worksheet, request));
+    }
+
+    /**
+     * 여러 학습지 PDF를 ZIP으로 일괄 내보내기 (렌더링이 끝나는 대로 스트리밍)
+     */
+    @PostMapping("/export/pdf")
+    public ResponseEntity<StreamingResponseBody> exportWorksheetPdfs(@RequestBody BulkPdfExportRequest request) {
+        List<Worksheet> worksheets = worksheetService.getWorksheetsForExport(
+                request.getWorksheetIds(), request.getStatus(), currentMemberId(), pdfBulkExportService.getMaxWorksheets());
+        worksheets.forEach(this::validateWorksheetAccess);
+
+        List<PdfBulkExportService.ExportTarget> targets = pdfBulkExportService.toTargets(worksheets);
+        if (targets.isEmpty()) {
+            throw new RestApiException(WorksheetErrorCode.WORKSHEET_NOT_FOUND);
+        }
+
+        String fileName = String.format("학습지_PDF_%s.zip",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmm")));
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename*=UTF-8''" + URLEncoder.encode(fileName, StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_TYPE, "application/zip")
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(out -> pdfBulkExportService.writeZip(targets, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> previewPdf(Long worksheetId, PdfVariant variant, WebRequest webRequest) {
         try {
-            log.info("문제지 PDF 생성 요청: worksheetId={}", worksheetId);
+            log.info("{} PDF 요청: worksheetId={}", variant.getLabel(), worksheetId);
 
             // 1. 학습지 정보 조회
             Worksheet worksheet = worksheetService.getWorksheetById(worksheetId);
@@ -142,57 +255,113 @@ public class WorksheetController {
             // 2. 권한 확인
             validateWorksheetAccess(worksheet);
 
-            // 3. 학습지의 문제들 조회 (순서대로)
-            List<WorksheetProblem> problems = worksheetService.getWorksheetProblemsOrdered(worksheetId);
+            // 3. 캐시 조회 (PDF 종류, 문제/학습지 수정 시각 기반 키)
+            String cacheKey = pdfCacheService.cacheKey(worksheet, variant);
+            String fileName = previewFileName(worksheet.getTitle(), variant);
 
-            if (problems.isEmpty()) {
-                throw new RestApiException(WorksheetErrorCode.NO_PROBLEMS_FOUND);
+            if (!pdfCacheService.isEnabled()) {
+                return streamWorksheetPreview(worksheetId, variant, cacheKey, fileName, webRequest);
             }
 
-            // 4. PDF 생성 (문제 + 정답)
-            byte[] pdfBytes = pdfGenerator.generateProblemWithAnswerPdf(worksheet, problems);
+            PdfCacheService.CachedPdf cached = pdfCacheService.find(worksheetId, cacheKey).orElse(null);
 
-            // 5. 응답 생성
-            ByteArrayResource resource = new ByteArrayResource(pdfBytes);
+            if (cached == null) {
+                // 4. 렌더링 입력을 DTO로 조회 (트랜잭션은 여기서 끝남)
+                WorksheetRenderModel model = worksheetService.loadRenderModel(worksheetId);
 
-            String fileName = String.format("%s_문제지_%s.pdf",
-                    sanitizeFileName(worksheet.getTitle()),
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmm")));
-
-            log.info("문제지 PDF 생성 완료: worksheetId={}, 파일크기={}KB",
-                    worksheetId, pdfBytes.length / 1024);
+                // 5. PDF 생성 후 임시 파일로 스풀하여 캐시에 저장
+                cached = pdfCacheService.store(worksheetId, variant, cacheKey,
+                        out -> pdfGenerator.writePdf(model, variant, out, CompletePdfGenerator.ProgressListener.NONE));
+            }
 
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "inline; filename*=UTF-8''" + URLEncoder.encode(fileName, StandardCharsets.UTF_8))
-                    .header(HttpHeaders.CONTENT_TYPE, "application/pdf")
-                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(pdfBytes.length))
-                    .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
-                    .header(HttpHeaders.PRAGMA, "no-cache")
-                    .header(HttpHeaders.EXPIRES, "0")
-                    .body(resource);
+            // 6. 변경 없으면 304, 아니면 파일 채널에서 바로 전송
+            return serveCachedPdf(cached, fileName, webRequest);
 
         } catch (RestApiException e) {
-            log.error("문제지 PDF 생성 실패 - 비즈니스 오류: worksheetId={}", worksheetId, e);
+            log.error("{} PDF 생성 실패 - 비즈니스 오류: worksheetId={}", variant.getLabel(), worksheetId, e);
             throw e;
         } catch (Exception e) {
-            log.error("문제지 PDF 생성 실패 - 시스템 오류: worksheetId={}", worksheetId, e);
+            log.error("{} PDF 생성 실패 - 시스템 오류: worksheetId={}", variant.getLabel(), worksheetId, e);
             throw new RestApiException(WorksheetErrorCode.PDF_GENERATION_FAILED);
         }
     }
 
+    private PdfRenderJobResponse toJobResponse(PdfRenderJobService.Job job) {
+        String downloadUrl = job.getStatus() == PdfRenderJobService.Status.DONE
+                ? "/api/worksheet/preview/jobs/" + job.getJobId() + "/download"
+                : null;
+        return new PdfRenderJobResponse(job.getJobId(), job.getWorksheetId(), job.getStatus().name(),
+                job.getProgress(), job.getErrorMessage(), downloadUrl);
+    }
+
     /**
-     * 학습지 접근 권한 확인
+     * 캐시된 PDF 응답 (ETag/Last-Modified 조건부 요청이면 304)
      */
-    private void validateWorksheetAccess(Worksheet worksheet) {
+    private ResponseEntity<StreamingResponseBody> serveCachedPdf(PdfCacheService.CachedPdf pdf, String fileName,
+                                                                 WebRequest webRequest) {
+        if (webRequest.checkNotModified(pdf.getEtag(), pdf.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(pdf.getEtag())
+                    .lastModified(pdf.getLastModified())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "inline; filename*=UTF-8''" + URLEncoder.encode(fileName, StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_TYPE, PdfCacheService.MIME_TYPE)
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(pdf.getSize()))
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+                .eTag(pdf.getEtag())
+                .lastModified(pdf.getLastModified())
+                .body(pdf::transferTo);
+    }
+
+    /**
+     * 캐시를 쓰지 않을 때: 응답 스트림에 바로 렌더링 (Content-Length 없이 chunked 전송)
+     */
+    private ResponseEntity<StreamingResponseBody> streamWorksheetPreview(Long worksheetId, PdfVariant variant, String cacheKey,
+                                                                       String fileName, WebRequest webRequest) {
+        String etag = "\"" + cacheKey + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        WorksheetRenderModel model = worksheetService.loadRenderModel(worksheetId);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "inline; filename*=UTF-8''" + URLEncoder.encode(fileName, StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_TYPE, PdfCacheService.MIME_TYPE)
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+                .eTag(etag)
+                .body(out -> pdfGenerator.writePdf(model, variant, out, CompletePdfGenerator.ProgressListener.NONE));
+    }
+
+    private String previewFileName(String title, PdfVariant variant) {
+        return String.format("%s_%s_%s.pdf",
+                sanitizeFileName(title), variant.getLabel(),
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmm")));
+    }
+
+    /**
+     * 현재 로그인한 회원 ID
+     */
+    private Long currentMemberId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication == null || !authentication.isAuthenticated()) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
             throw new RestApiException(UserErrorCode.NOT_ACCESS_AUTHORITY);
         }
+        return userDetails.getMember().getMemberId();
+    }
 
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        Long currentUserId = userDetails.getMember().getMemberId();
+    /**
+     * 학습지 접근 권한 확인
+     */
+    private void validateWorksheetAccess(Worksheet worksheet) {
+        Long currentUserId = currentMemberId();
 
         // 작성자 본인이거나 공개된 학습지만 접근 가능
         boolean isAuthor = worksheet.getAuthorId().getMemberId().equals(currentUserId);
@@ -2,6 +2,8 @@ package com.company.edu.controller.user;
 
 import com.company.edu.config.user.CustomUserDetails;
 import com.company.edu.dto.auth.PasswordResetRequest;
+import com.company.edu.dto.auth.RefreshTokenRequest;
+import com.company.edu.dto.auth.TokenResponse;
 import com.company.edu.dto.user.*;
 import com.company.edu.service.auth.PasswordResetService;
 import com.company.edu.service.user.AuthService;
@@ -27,15 +29,38 @@ public class AuthApiController {
 
     @PostMapping("/login")
     public ResponseEntity<Map<String, String>> getMemberProfile(@Valid @RequestBody LoginRequestDto request) {
-        String token = this.authService.login(request);
+        TokenResponse tokens = this.authService.login(request);
         return ResponseEntity.ok()
-                .header("Authorization", token)  // 헤더에 토큰 추가
+                .header("Authorization", tokens.accessToken())  // 헤더에 토큰 추가
                 .body(Map.of(
                         "message", "로그인 성공",
-                        "token", token  // 본문에도 토큰 포함 (백업용)
+                        "token", tokens.accessToken(),  // 본문에도 토큰 포함 (백업용)
+                        "refreshToken", tokens.refreshToken()
                 ));
     }
 
+    /**
+     * 액세스 토큰 재발급 (리프레시 토큰도 새로 발급되므로 받은 값으로 교체해야 함)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, String>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        TokenResponse tokens = this.authService.refresh(request.refreshToken());
+        return ResponseEntity.ok()
+                .header("Authorization", tokens.accessToken())
+                .body(Map.of(
+                        "token", tokens.accessToken(),
+                        "refreshToken", tokens.refreshToken()
+                ));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshTokenRequest request,
+                                       @RequestHeader(value = "Authorization", required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        this.authService.logout(request == null ? null : request.refreshToken(), accessToken);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/signup")
     public ResponseEntity<Long> signUp(@Valid @RequestBody SignUpRequestDto request) {
 
@@ -0,0 +1,11 @@
+package com.company.edu.dto.auth;
+
+/**
+ * 회원 토큰 버전 (토큰 일괄 폐기 동기화용)
+ */
+public interface MemberTokenVersionView {
+
+    Long getMemberId();
+
+    Integer getTokenVersion();
+}
@@ -0,0 +1,6 @@
+package com.company.edu.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(@NotBlank String refreshToken) {
+}
@@ -0,0 +1,7 @@
+package com.company.edu.dto.auth;
+
+/**
+ * 액세스 토큰 + 리프레시 토큰
+ */
+public record TokenResponse(String accessToken, String refreshToken) {
+}
@@ -0,0 +1,33 @@
+package com.company.edu.dto.curriculum;
+
+import com.company.edu.entity.problem.Semesters;
+
+/**
+ * 학기 ~ 소단원 평탄화 행 (하위 단원이 없으면 해당 컬럼은 null)
+ */
+public interface CurriculumRow {
+
+    Integer getSemesterId();
+
+    Semesters.GradeLevel getGradeLevel();
+
+    String getSemesterName();
+
+    String getSemesterCode();
+
+    Integer getCurriculumYear();
+
+    Byte getIsActive();
+
+    Integer getMajorUnitId();
+
+    String getMajorUnitName();
+
+    Integer getMiddleUnitId();
+
+    String getMiddleUnitName();
+
+    Integer getMinorUnitId();
+
+    String getMinorUnitName();
+}
@@ -0,0 +1,21 @@
+package com.company.edu.dto.curriculum;
+
+import com.company.edu.entity.problem.Semesters;
+
+import java.util.List;
+
+/**
+ * 교육과정 트리 (학기 > 대단원 > 중단원 > 소단원, 노드별 하위 문제 수 포함)
+ */
+public record CurriculumTree(List<SemesterNode> semesters) {
+
+    public record SemesterNode(Integer id, Semesters.GradeLevel gradeLevel, String semesterName, String semesterCode,
+                               Integer curriculumYear, boolean active, long problemCount, List<UnitNode> majorUnits) {
+    }
+
+    /**
+     * 대/중/소단원 (소단원은 children이 비어 있음)
+     */
+    public record UnitNode(Integer id, String name, long problemCount, List<UnitNode> children) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.company.edu.dto.curriculum;
+
+/**
+ * 소단원별 문제 수
+ */
+public interface MinorUnitProblemCount {
+
+    Integer getMinorUnitId();
+
+    Long getProblemCount();
+}
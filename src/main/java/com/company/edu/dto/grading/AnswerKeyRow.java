@@ -0,0 +1,10 @@
+package com.company.edu.dto.grading;
+
+import com.company.edu.entity.problem.Problem;
+
+/**
+ * 채점용 정답 행 (JPQL 생성자 프로젝션)
+ */
+public record AnswerKeyRow(Long problemId, Integer problemOrder, Problem.ProblemType problemType,
+                           Integer correctOptionNumber, String correctAnswer, String alternativeAnswers) {
+}
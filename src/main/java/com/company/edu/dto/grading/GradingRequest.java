@@ -0,0 +1,16 @@
+package com.company.edu.dto.grading;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 학생 답안지 (문제 ID별 답, 빠진 문제는 미응답)
+ */
+public record GradingRequest(@NotNull @Size(max = 200) @Valid List<SubmittedAnswer> answers) {
+
+    public record SubmittedAnswer(@NotNull Long problemId, @Size(max = 200) String answer) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.company.edu.dto.grading;
+
+import java.util.List;
+
+/**
+ * 채점 결과
+ *
+ * @param gradableCount 자동 채점 대상 문제 수 (서술형 제외)
+ * @param score         자동 채점 대상 기준 100점 만점
+ */
+public record GradingResponse(Long worksheetId, int problemCount, int gradableCount, int correctCount,
+                              int score, List<ProblemResult> results) {
+
+    public enum Status {
+        CORRECT, WRONG, UNANSWERED, UNGRADED
+    }
+
+    public record ProblemResult(Long problemId, Integer problemOrder, Status status, String correctAnswer) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.company.edu.dto.pdf;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 학습지 PDF 일괄 내보내기 요청
+ * worksheetIds가 비어 있으면 내 학습지 중 status에 해당하는 것 전체
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkPdfExportRequest {
+    private List<Long> worksheetIds;
+    private String status;
+}
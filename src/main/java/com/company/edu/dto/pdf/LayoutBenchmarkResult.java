@@ -0,0 +1,18 @@
+package com.company.edu.dto.pdf;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LayoutBenchmarkResult {
+    private Long worksheetId;
+    private String strategy;
+    private Integer problemCount;
+    private Integer pages;
+    private Long firstRenderMillis;  // 레이아웃 계획 포함
+    private Long bestRenderMillis;   // 계획 캐시 적중 후
+    private Long fileSizeKb;
+}
@@ -0,0 +1,17 @@
+package com.company.edu.dto.pdf;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PdfRenderJobResponse {
+    private String jobId;
+    private Long worksheetId;
+    private String status;
+    private Integer progress;
+    private String errorMessage;
+    private String downloadUrl;
+}
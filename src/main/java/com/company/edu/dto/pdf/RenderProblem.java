@@ -0,0 +1,30 @@
+package com.company.edu.dto.pdf;
+
+import com.company.edu.entity.problem.Problem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PDF 렌더링용 학습지 문제 (JPQL 생성자 프로젝션)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RenderProblem {
+
+    private final Long problemId;
+    private final Integer problemOrder;
+    private final String imagePath;
+    private final Integer imageWidth;
+    private final Integer imageHeight;
+    private final Problem.ProblemType problemType;
+    private final String solution;
+    private final String hint;
+
+    public String getImageUrl() {
+        return imagePath != null ? imagePath : "default_problem_image.png";
+    }
+
+    public boolean hasImageDimensions() {
+        return imageWidth != null && imageHeight != null && imageWidth > 0 && imageHeight > 0;
+    }
+}
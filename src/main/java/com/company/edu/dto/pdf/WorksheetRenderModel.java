@@ -0,0 +1,32 @@
+package com.company.edu.dto.pdf;
+
+import com.company.edu.entity.worksheet.Worksheet;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PDF 렌더링 입력 (엔티티에서 분리된 불변 값)
+ * 트랜잭션/영속성 컨텍스트 밖의 워커 스레드에서도 안전하게 사용할 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class WorksheetRenderModel {
+
+    private final Long worksheetId;
+    private final LocalDateTime updatedAt;
+    private final String title;
+    private final String tag;
+    private final String tester;
+    private final Integer problemCount;
+    private final String contentRange;
+    private final List<RenderProblem> problems;
+
+    public static WorksheetRenderModel of(Worksheet worksheet, List<RenderProblem> problems) {
+        return new WorksheetRenderModel(worksheet.getWorksheetId(), worksheet.getUpdatedAt(), worksheet.getTitle(),
+                worksheet.getTag(), worksheet.getTester(), worksheet.getProblemCount(), worksheet.getContentRange(),
+                List.copyOf(problems));
+    }
+}
@@ -0,0 +1,7 @@
+package com.company.edu.dto.stats;
+
+/**
+ * 난이도 보정 결과 (배치 UPDATE용)
+ */
+public record CalibrationResult(Long problemId, String calibratedDifficulty, String trend) {
+}
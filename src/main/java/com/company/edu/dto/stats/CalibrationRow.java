@@ -0,0 +1,11 @@
+package com.company.edu.dto.stats;
+
+import java.math.BigDecimal;
+
+/**
+ * 난이도 보정 입력 (문제 + 풀이 통계, 통계가 없으면 0/null)
+ */
+public record CalibrationRow(Long problemId, Long minorUnitId, String difficulty,
+                             long attempts, long correctAttempts, BigDecimal correctRate,
+                             String calibratedDifficulty, String trend) {
+}
@@ -0,0 +1,7 @@
+package com.company.edu.dto.stats;
+
+/**
+ * 문제별 풀이 횟수 증가분 (배치 UPSERT용)
+ */
+public record ProblemStatsDelta(Long problemId, long attempts, long correctAttempts) {
+}
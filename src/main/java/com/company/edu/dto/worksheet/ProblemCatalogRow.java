@@ -0,0 +1,21 @@
+package com.company.edu.dto.worksheet;
+
+import com.company.edu.entity.problem.Problem;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문제 카탈로그 인덱스 적재용 경량 행 (본문/해설 컬럼 제외)
+ */
+public interface ProblemCatalogRow {
+
+    Long getId();
+
+    Integer getMinorUnitId();
+
+    String getDifficulty();
+
+    Problem.ProblemType getProblemType();
+
+    LocalDateTime getUpdatedAt();
+}
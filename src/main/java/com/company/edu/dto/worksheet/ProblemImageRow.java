@@ -0,0 +1,15 @@
+package com.company.edu.dto.worksheet;
+
+/**
+ * 이미지 메타데이터 백필/재검증 대상 (문제 ID, 이미지 경로, 저장된 바이트 수/해시)
+ */
+public interface ProblemImageRow {
+
+    Long getId();
+
+    String getImagePath();
+
+    Long getImageBytes();
+
+    String getImageHash();
+}
@@ -0,0 +1,11 @@
+package com.company.edu.dto.worksheet;
+
+/**
+ * 난이도별 표본 추출 결과 (문제 ID + 난이도만 조회)
+ */
+public interface ProblemSampleView {
+
+    Long getId();
+
+    String getDifficulty();
+}
@@ -0,0 +1,13 @@
+package com.company.edu.dto.worksheet;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학습지 문제의 버전 정보 (PDF 캐시 키 계산용)
+ */
+public interface ProblemVersionView {
+
+    Long getProblemId();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,54 @@
+package com.company.edu.dto.worksheet;
+
+import com.company.edu.entity.problem.Problem;
+
+import java.math.BigDecimal;
+
+/**
+ * 저장된 학습지 조회용 평탄화 행 (학습지 헤더 + 문제 + 단원명 + 통계)
+ * 문제가 없는 학습지는 문제 컬럼이 모두 null인 한 행으로 반환된다.
+ */
+public interface SavedWorksheetRow {
+
+    // 학습지 헤더
+    Long getWorksheetId();
+
+    Long getAuthorId();
+
+    String getTitle();
+
+    String getTester();
+
+    String getTag();
+
+    Integer getProblemCount();
+
+    String getDifficulty();
+
+    String getWorksheetProblemType();
+
+    Boolean getAutoGrading();
+
+    String getMockExamIncluded();
+
+    // 문제
+    Integer getProblemOrder();
+
+    Long getProblemId();
+
+    Problem.ProblemType getProblemType();
+
+    String getProblemDifficulty();
+
+    Integer getMinorUnitId();
+
+    String getUnitName();
+
+    String getImagePath();
+
+    String getSolution();
+
+    String getHint();
+
+    BigDecimal getCorrectRate();
+}
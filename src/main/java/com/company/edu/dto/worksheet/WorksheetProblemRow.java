@@ -0,0 +1,7 @@
+package com.company.edu.dto.worksheet;
+
+/**
+ * 학습지-문제 연결 행 (배치 INSERT용)
+ */
+public record WorksheetProblemRow(Long problemId, Integer problemOrder) {
+}
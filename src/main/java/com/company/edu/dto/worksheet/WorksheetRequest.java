@@ -58,6 +58,14 @@ public class WorksheetRequest {
         private int page;
         private int size;
     }
-}
-
 
+    @Data
+    public static class CandidateFeedRequestDto {
+        private List<Long> minorUnitIds;
+        private WorksheetSettings settings;
+        private List<Long> excludeProblemIds;
+        private int size;
+        private Long seed; // 첫 요청은 비워두고 응답의 seed를 이후 요청에 그대로 전달
+        private String cursor; // 이전 응답의 nextCursor
+    }
+}
@@ -89,4 +89,14 @@ public class WorksheetResponse {
             private boolean isLast;
         }
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class CandidateFeedResponseDto {
+        private List<ProblemDTO> problems;
+        private long seed;
+        private String nextCursor;
+        private boolean hasNext;
+        private int totalAvailable; // 제외 문제를 뺀 전체 후보 수
+        private int remaining; // 이번 페이지 이후 남은 후보 수
+    }
+}
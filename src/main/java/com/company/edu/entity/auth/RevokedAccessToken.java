@@ -0,0 +1,41 @@
+package com.company.edu.entity.auth;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰 (로그아웃)
+ * 각 서버는 revoked_at 기준으로 주기적으로 읽어 메모리 폐기 목록에 반영한다.
+ */
+@Entity
+@Table(name = "revoked_access_token", indexes = {
+        @Index(name = "idx_revoked_access_token_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedAccessToken {
+
+    @Id
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    public RevokedAccessToken(String jti, Long memberId, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.edu.entity.problem;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소단원별 문제 집계 (문제 수, 정답률 합계, 유형/난이도별 문제 수)
+ *
+ * MinorUnitStatsService가 전체를 주기적으로 다시 만들고, 정답률은 문제 통계 반영 때 바뀐 소단원만 갱신한다.
+ * 평균 정답률은 기존 AVG(correct_rate)와 같게 통계가 있는 문제만으로 계산한다.
+ */
+@Entity
+@Table(name = "minor_unit_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MinorUnitStats {
+
+    @Id
+    @Column(name = "minor_unit_id")
+    private Long minorUnitId;
+
+    @Column(name = "problem_count", nullable = false)
+    private long problemCount;
+
+    // 정답률이 있는 문제 수와 정답률 합계
+    @Column(name = "rated_count", nullable = false)
+    private long ratedCount;
+
+    @Column(name = "correct_rate_sum", nullable = false)
+    private long correctRateSum;
+
+    @Column(name = "multiple_choice_count", nullable = false)
+    private long multipleChoiceCount;
+
+    @Column(name = "subjective_count", nullable = false)
+    private long subjectiveCount;
+
+    @Column(name = "essay_count", nullable = false)
+    private long essayCount;
+
+    @Column(name = "low_count", nullable = false)
+    private long lowCount;
+
+    @Column(name = "medium_low_count", nullable = false)
+    private long mediumLowCount;
+
+    @Column(name = "medium_count", nullable = false)
+    private long mediumCount;
+
+    @Column(name = "high_count", nullable = false)
+    private long highCount;
+
+    @Column(name = "very_high_count", nullable = false)
+    private long veryHighCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 유형별 문제 수 (null 또는 "전체"면 전체)
+     */
+    public long countByType(String problemType) {
+        if (problemType == null || problemType.equals("전체")) {
+            return problemCount;
+        }
+        return switch (problemType) {
+            case "객관식" -> multipleChoiceCount;
+            case "주관식" -> subjectiveCount;
+            case "서술형" -> essayCount;
+            default -> 0;
+        };
+    }
+}
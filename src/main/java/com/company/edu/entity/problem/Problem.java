@@ -11,7 +11,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "problems")
+@Table(name = "problems", indexes = {
+        @Index(name = "idx_problems_unit_calibrated_difficulty", columnList = "minor_unit_id, calibrated_difficulty"),
+        @Index(name = "idx_problems_trend", columnList = "trend")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,9 +41,29 @@ public class Problem {
     @Column(name = "image_path")
     private String imagePath;
 
+    // 이미지 메타데이터 (레이아웃 계산용, 백필 작업이 채움)
+    @Column(name = "image_width")
+    private Integer imageWidth;
+
+    @Column(name = "image_height")
+    private Integer imageHeight;
+
+    @Column(name = "image_bytes")
+    private Long imageBytes;
+
+    @Column(name = "image_hash", length = 64)
+    private String imageHash;
+
     @Column(name = "difficulty")
     private String difficulty;
 
+    // 풀이 통계로 보정한 난이도/출제 경향 (DifficultyCalibrationJob이 채움, 보정 전이면 null)
+    @Column(name = "calibrated_difficulty", length = 10)
+    private String calibratedDifficulty;
+
+    @Column(name = "trend", length = 10)
+    private String trend;
+
     @Column(columnDefinition = "TEXT")
     private String solution;
 
@@ -72,6 +95,10 @@ public class Problem {
         주관식, 객관식, 서술형
     }
 
+    public boolean hasImageDimensions() {
+        return imageWidth != null && imageHeight != null && imageWidth > 0 && imageHeight > 0;
+    }
+
     public String getImageUrl() {
         return imagePath != null ? imagePath : "default_problem_image.png";
     }
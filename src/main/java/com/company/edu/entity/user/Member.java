@@ -3,6 +3,7 @@ package com.company.edu.entity.user;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -35,6 +36,14 @@ public class Member {
     @Column(name = "role", nullable = false)
     private RoleType role;
 
+    // 올리면 이전에 발급된 액세스 토큰이 모두 무효가 됨
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
+    @Column(name = "token_revoked_at")
+    private LocalDateTime tokenRevokedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -43,6 +52,14 @@ public class Member {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * 발급된 토큰 일괄 폐기 (비밀번호 재설정 등)
+     */
+    public void revokeIssuedTokens() {
+        this.tokenVersion = (this.tokenVersion == null ? 0 : this.tokenVersion) + 1;
+        this.tokenRevokedAt = LocalDateTime.now();
+    }
+
 //    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
 //    private List<Category> categories;
 }
@@ -0,0 +1,9 @@
+package com.company.edu.repository;
+
+import com.company.edu.entity.problem.MinorUnitStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MinorUnitStatsRepository extends JpaRepository<MinorUnitStats, Long>, MinorUnitStatsRepositoryCustom {
+}
@@ -0,0 +1,19 @@
+package com.company.edu.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface MinorUnitStatsRepositoryCustom {
+
+    /**
+     * problems/problem_stats로 전체 재집계 (문제가 없어진 소단원 행은 삭제)
+     *
+     * @return 집계된 소단원 수
+     */
+    int rebuildAll(LocalDateTime now);
+
+    /**
+     * 주어진 문제들이 속한 소단원의 정답률 집계만 다시 계산 (문제 통계 반영과 같은 트랜잭션에서 호출)
+     */
+    void refreshCorrectRates(Collection<Long> problemIds, LocalDateTime now);
+}
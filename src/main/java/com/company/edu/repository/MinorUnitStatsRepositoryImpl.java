@@ -0,0 +1,70 @@
+package com.company.edu.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MinorUnitStatsRepositoryImpl implements MinorUnitStatsRepositoryCustom {
+
+    private static final String REBUILD_SQL =
+            "INSERT INTO minor_unit_stats (minor_unit_id, problem_count, rated_count, correct_rate_sum, " +
+            "multiple_choice_count, subjective_count, essay_count, " +
+            "low_count, medium_low_count, medium_count, high_count, very_high_count, updated_at) " +
+            "SELECT p.minor_unit_id, COUNT(*), COUNT(ps.correct_rate), COALESCE(SUM(ps.correct_rate), 0), " +
+            "SUM(p.problem_type = '객관식'), SUM(p.problem_type = '주관식'), SUM(p.problem_type = '서술형'), " +
+            "SUM(p.difficulty = '하'), SUM(p.difficulty = '중하'), SUM(p.difficulty = '중'), " +
+            "SUM(p.difficulty = '상'), SUM(p.difficulty = '최상'), ? " +
+            "FROM problems p LEFT JOIN problem_stats ps ON ps.problem_id = p.problem_id " +
+            "GROUP BY p.minor_unit_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "problem_count = VALUES(problem_count), rated_count = VALUES(rated_count), " +
+            "correct_rate_sum = VALUES(correct_rate_sum), multiple_choice_count = VALUES(multiple_choice_count), " +
+            "subjective_count = VALUES(subjective_count), essay_count = VALUES(essay_count), " +
+            "low_count = VALUES(low_count), medium_low_count = VALUES(medium_low_count), " +
+            "medium_count = VALUES(medium_count), high_count = VALUES(high_count), " +
+            "very_high_count = VALUES(very_high_count), updated_at = VALUES(updated_at)";
+
+    // 이번 재집계에서 갱신되지 않은 행 = 문제가 없어진 소단원
+    private static final String DELETE_STALE_SQL = "DELETE FROM minor_unit_stats WHERE updated_at < ?";
+
+    // 통계가 바뀐 문제의 소단원만 다시 합산 (problems.minor_unit_id 인덱스 사용)
+    private static final String REFRESH_RATES_SQL =
+            "UPDATE minor_unit_stats s JOIN (" +
+            "SELECT p.minor_unit_id, COUNT(ps.correct_rate) AS rated_count, " +
+            "COALESCE(SUM(ps.correct_rate), 0) AS correct_rate_sum " +
+            "FROM problems p JOIN problem_stats ps ON ps.problem_id = p.problem_id " +
+            "WHERE p.minor_unit_id IN (SELECT minor_unit_id FROM problems WHERE problem_id IN (%s)) " +
+            "GROUP BY p.minor_unit_id) a ON a.minor_unit_id = s.minor_unit_id " +
+            "SET s.rated_count = a.rated_count, s.correct_rate_sum = a.correct_rate_sum, s.updated_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int rebuildAll(LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(REBUILD_SQL, timestamp);
+        jdbcTemplate.update(DELETE_STALE_SQL, timestamp);
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM minor_unit_stats", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public void refreshCorrectRates(Collection<Long> problemIds, LocalDateTime now) {
+        if (problemIds.isEmpty()) {
+            return;
+        }
+
+        List<Object> args = new ArrayList<>(problemIds.size() + 1);
+        args.addAll(problemIds);
+        args.add(Timestamp.valueOf(now));
+        String placeholders = String.join(", ", Collections.nCopies(problemIds.size(), "?"));
+        jdbcTemplate.update(REFRESH_RATES_SQL.formatted(placeholders), args.toArray());
+    }
+}
@@ -1,19 +1,26 @@
 package com.company.edu.repository;
 
+import com.company.edu.dto.curriculum.MinorUnitProblemCount;
+import com.company.edu.dto.worksheet.ProblemCatalogRow;
 import com.company.edu.dto.worksheet.ProblemDTO;
+import com.company.edu.dto.worksheet.ProblemImageRow;
+import com.company.edu.dto.worksheet.ProblemSampleView;
 import com.company.edu.entity.problem.Problem;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Repository
-public interface ProblemRepository extends JpaRepository<Problem, Long> {
+public interface ProblemRepository extends JpaRepository<Problem, Long>, ProblemRepositoryCustom {
 
     @Query("SELECT new com.company.edu.dto.worksheet.ProblemDTO(" +
             "p.id, " +
@@ -24,11 +31,7 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
             "p.solution, " +
             "p.hint, " +
             "COALESCE(CAST(ps.correctRate AS integer), 0), " + // BigDecimal을 Integer로 캐스팅
-            "CASE " +
-            "  WHEN COALESCE(ps.correctRate, 0) >= 80 THEN '기본' " +
-            "  WHEN COALESCE(ps.correctRate, 0) <= 60 THEN '신경향' " +
-            "  ELSE '표준' " +
-            "END) " +
+            "COALESCE(p.trend, '신경향')) " +
             "FROM Problem p " +
             "LEFT JOIN p.problemStats ps " +
             "WHERE p.minorUnit.id IN :unitIds " +
@@ -50,16 +53,110 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
             "p.solution," +
             "p.hint," +
             "COALESCE(CAST(ps.correctRate AS integer), 0)," +
-            "CASE " +
-            "WHEN COALESCE(ps.correctRate, 0) >= 80 THEN '기본'" +
-            "WHEN COALESCE(ps.correctRate, 0) <= 60 THEN '신경향'" +
-            "ELSE '표준'" +
-            "END)" +
+            "COALESCE(p.trend, '신경향')) " +
             "FROM Problem p " +
             "LEFT JOIN p.problemStats ps " +
             "WHERE p.id = :id")
     ProblemDTO findProblemDto(@Param("id") Long problemId);
 
+    /**
+     * 선택된 문제 ID들만 DTO로 조회 (표본 추출 후 당첨 문제 하이드레이션용)
+     */
+    @Query("SELECT new com.company.edu.dto.worksheet.ProblemDTO(" +
+            "p.id, " +
+            "CAST(p.problemType AS string), " +
+            "p.difficulty, " +
+            "p.minorUnit.name, " +
+            "p.imagePath, " +
+            "p.solution, " +
+            "p.hint, " +
+            "COALESCE(CAST(ps.correctRate AS integer), 0), " +
+            "COALESCE(p.trend, '신경향')) " +
+            "FROM Problem p " +
+            "LEFT JOIN p.problemStats ps " +
+            "WHERE p.id IN :ids")
+    List<ProblemDTO> findProblemDtosByIds(@Param("ids") Collection<Long> problemIds);
+
+    /**
+     * 존재하는 문제 ID만 조회 (저장 전 일괄 검증용)
+     */
+    @Query("SELECT p.id FROM Problem p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> problemIds);
+
+    /**
+     * 난이도별 층화 표본 추출 (한 번의 쿼리)
+     * 난이도 파티션마다 RAND() 순으로 번호를 매겨 최대 perDifficultyLimit개의 ID와 난이도만 반환
+     */
+    @Query(value = "SELECT t.problem_id AS id, t.difficulty AS difficulty FROM (" +
+            "  SELECT p.problem_id, p.difficulty, " +
+            "         ROW_NUMBER() OVER (PARTITION BY p.difficulty ORDER BY RAND()) AS rn " +
+            "  FROM problems p " +
+            "  WHERE p.minor_unit_id IN (:unitIds) " +
+            "  AND (:problemType IS NULL OR :problemType = '전체' OR p.problem_type = :problemType)" +
+            ") t " +
+            "WHERE t.rn <= :perDifficultyLimit " +
+            "ORDER BY t.difficulty, t.rn", nativeQuery = true)
+    List<ProblemSampleView> sampleProblemIdsByDifficulty(@Param("unitIds") List<Long> minorUnitIds,
+                                                         @Param("problemType") String problemType,
+                                                         @Param("perDifficultyLimit") int perDifficultyLimit);
+
+    /**
+     * 카탈로그 인덱스 전체 적재 (ID/소단원/난이도/유형만)
+     */
+    @Query("SELECT p.id AS id, p.minorUnit.id AS minorUnitId, p.difficulty AS difficulty, " +
+            "p.problemType AS problemType, p.updatedAt AS updatedAt " +
+            "FROM Problem p")
+    List<ProblemCatalogRow> findAllCatalogRows();
+
+    /**
+     * 카탈로그 인덱스 증분 갱신 (마지막 적재 시각 이후 변경된 문제만, 같은 시각 포함)
+     */
+    @Query("SELECT p.id AS id, p.minorUnit.id AS minorUnitId, p.difficulty AS difficulty, " +
+            "p.problemType AS problemType, p.updatedAt AS updatedAt " +
+            "FROM Problem p WHERE p.updatedAt >= :since")
+    List<ProblemCatalogRow> findCatalogRowsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 이미지 메타데이터가 없는 문제 (ID 순 keyset)
+     */
+    @Query("SELECT p.id AS id, p.imagePath AS imagePath, p.imageBytes AS imageBytes, p.imageHash AS imageHash FROM Problem p " +
+            "WHERE p.imageWidth IS NULL AND p.imagePath IS NOT NULL AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<ProblemImageRow> findProblemsMissingImageMetadata(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 이미지 메타데이터가 있는 문제 (재검증용, ID 순 keyset)
+     */
+    @Query("SELECT p.id AS id, p.imagePath AS imagePath, p.imageBytes AS imageBytes, p.imageHash AS imageHash FROM Problem p " +
+            "WHERE p.imageWidth IS NOT NULL AND p.imagePath IS NOT NULL AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<ProblemImageRow> findProblemsWithImageMetadata(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 이미지 메타데이터 기록 (벌크 UPDATE라 updatedAt이 바뀌지 않아 PDF 캐시 키가 유지됨)
+     */
+    @Modifying
+    @Query("UPDATE Problem p SET p.imageWidth = :width, p.imageHeight = :height, " +
+            "p.imageBytes = :bytes, p.imageHash = :hash WHERE p.id = :id")
+    int updateImageMetadata(@Param("id") Long problemId,
+                            @Param("width") Integer width,
+                            @Param("height") Integer height,
+                            @Param("bytes") Long bytes,
+                            @Param("hash") String hash);
+
+    /**
+     * 이미지 파일이 바뀐 문제의 메타데이터 교체 (updatedAt도 바꿔서 PDF 캐시 키와 카탈로그 증분 갱신에 반영)
+     */
+    @Modifying
+    @Query("UPDATE Problem p SET p.imageWidth = :width, p.imageHeight = :height, " +
+            "p.imageBytes = :bytes, p.imageHash = :hash, p.updatedAt = :now WHERE p.id = :id")
+    int replaceImageMetadata(@Param("id") Long problemId,
+                             @Param("width") Integer width,
+                             @Param("height") Integer height,
+                             @Param("bytes") Long bytes,
+                             @Param("hash") String hash,
+                             @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(p) FROM Problem p WHERE p.minorUnit.name IN :unitNames")
     int countProblemsByUnits(@Param("unitNames") List<String> unitNames);
 
@@ -69,12 +166,21 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
     @Query("SELECT COUNT(p) FROM Problem p WHERE p.minorUnit.name IN :unitNames AND p.difficulty = :difficulty")
     int countProblemsByUnitsAndDifficulty(@Param("unitNames") List<String> unitNames, @Param("difficulty") String difficulty);
 
-    @Query("SELECT AVG(ps.correctRate) FROM Problem p LEFT JOIN p.problemStats ps WHERE p.minorUnit.name IN :unitIds")
+    @Query("SELECT AVG(ps.correctRate) FROM Problem p LEFT JOIN p.problemStats ps WHERE p.minorUnit.id IN :unitIds")
     Double getAverageCorrectRateByUnits(@Param("unitIds") List<Long> minorUnitIds);
 
+    /**
+     * 제외 문제 중 소단원/유형 조건에 맞는 문제 수 (소단원 집계에서 빼기 위한 PK 조회)
+     */
+    @Query("SELECT COUNT(p) FROM Problem p " +
+            "WHERE p.id IN :excludeIds " +
+            "AND p.minorUnit.id IN :unitIds " +
+            "AND (:problemType IS NULL OR :problemType = '전체' OR CAST(p.problemType AS string) = :problemType)")
+    int countExcludedProblemsInUnits(@Param("unitIds") List<Long> minorUnitIds, @Param("problemType") String problemType, @Param("excludeIds") Set<Long> excludeIds);
+
 
     @Query("SELECT COUNT(p) FROM Problem p " +
-            "WHERE p.minorUnit.name IN :unitIds " +
+            "WHERE p.minorUnit.id IN :unitIds " +
             "AND (:problemType IS NULL OR :problemType = '전체' OR CAST(p.problemType AS string) = :problemType) " +
             "AND (:excludeIds IS NULL OR p.id NOT IN :excludeIds)")
     int countAvailableProblemsExcluding(@Param("unitIds") List<Long> minorUnitIds, @Param("problemType") String problemType, @Param("excludeIds") Set<Long> excludeIds);
@@ -90,11 +196,7 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
             "p.solution, " +
             "p.hint, " +
             "COALESCE(CAST(ps.correctRate AS integer), 0), " +
-            "CASE " +
-            "  WHEN COALESCE(ps.correctRate, 0) >= 80 THEN '기본' " +
-            "  WHEN COALESCE(ps.correctRate, 0) <= 60 THEN '신경향' " +
-            "  ELSE '표준' " +
-            "END) " +
+            "COALESCE(p.trend, '신경향')) " +
             "FROM Problem p " +
             "LEFT JOIN p.problemStats ps " +
             "WHERE p.minorUnit.id IN :unitIds " +
@@ -111,4 +213,11 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
 
 //    @Query("SELECT Problem FROM Problem p WHERE p.id IN ")
 //    List<Problem> findSavedWorksheetProblem(@Param("problemId") Long problemId);
-}
\ No newline at end of file
+
+    // 교육과정 트리 노드별 문제 수
+    @Query("SELECT p.minorUnit.id AS minorUnitId, COUNT(p) AS problemCount FROM Problem p GROUP BY p.minorUnit.id")
+    List<MinorUnitProblemCount> countProblemsByMinorUnit();
+
+    // 난이도 보정이 안 된 문제가 있는지 (신규 문제)
+    boolean existsByCalibratedDifficultyIsNull();
+}
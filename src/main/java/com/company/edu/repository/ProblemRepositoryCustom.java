@@ -0,0 +1,20 @@
+package com.company.edu.repository;
+
+import com.company.edu.dto.stats.CalibrationResult;
+import com.company.edu.dto.stats.CalibrationRow;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ProblemRepositoryCustom {
+
+    /**
+     * 문제 + 풀이 통계를 소단원, ID 순으로 스트리밍 (전체를 메모리에 올리지 않음)
+     */
+    void streamCalibrationRows(int fetchSize, Consumer<CalibrationRow> consumer);
+
+    /**
+     * 보정 난이도/경향 배치 UPDATE (updated_at은 바꾸지 않아 PDF 캐시 키가 유지됨)
+     */
+    void batchUpdateCalibration(List<CalibrationResult> results);
+}
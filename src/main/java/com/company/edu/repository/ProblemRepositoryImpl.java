@@ -0,0 +1,66 @@
+package com.company.edu.repository;
+
+import com.company.edu.dto.stats.CalibrationResult;
+import com.company.edu.dto.stats.CalibrationRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class ProblemRepositoryImpl implements ProblemRepositoryCustom {
+
+    private static final String CALIBRATION_ROWS_SQL =
+            "SELECT p.problem_id, p.minor_unit_id, p.difficulty, p.calibrated_difficulty, p.trend, " +
+            "COALESCE(ps.total_attempts, 0) AS total_attempts, COALESCE(ps.correct_attempts, 0) AS correct_attempts, " +
+            "ps.correct_rate " +
+            "FROM problems p LEFT JOIN problem_stats ps ON ps.problem_id = p.problem_id " +
+            "ORDER BY p.minor_unit_id, p.problem_id";
+
+    private static final String UPDATE_CALIBRATION_SQL =
+            "UPDATE problems SET calibrated_difficulty = ?, trend = ? WHERE problem_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전체 결과를 메모리에 올리지 않고 행 단위로 스트리밍
+     * MariaDB 드라이버는 양수 fetchSize면 그만큼씩 나눠 읽지만(음수는 예외),
+     * MySQL Connector/J는 useCursorFetch 없이는 fetchSize를 무시하고 전부 읽으므로 Integer.MIN_VALUE(행 스트리밍)를 쓴다.
+     */
+    @Override
+    public void streamCalibrationRows(int fetchSize, Consumer<CalibrationRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(CALIBRATION_ROWS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            boolean mysqlDriver = connection.getMetaData().getDriverName().startsWith("MySQL");
+            statement.setFetchSize(mysqlDriver ? Integer.MIN_VALUE : fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(new CalibrationRow(
+                rs.getLong("problem_id"),
+                rs.getLong("minor_unit_id"),
+                rs.getString("difficulty"),
+                rs.getLong("total_attempts"),
+                rs.getLong("correct_attempts"),
+                rs.getBigDecimal("correct_rate"),
+                rs.getString("calibrated_difficulty"),
+                rs.getString("trend"))));
+    }
+
+    @Override
+    public void batchUpdateCalibration(List<CalibrationResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(results.size());
+        for (CalibrationResult result : results) {
+            args.add(new Object[]{result.calibratedDifficulty(), result.trend(), result.problemId()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_CALIBRATION_SQL, args);
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.edu.repository;
+
+import com.company.edu.dto.stats.ProblemStatsDelta;
+
+import java.util.Collection;
+
+public interface ProblemStatsRepositoryCustom {
+
+    /**
+     * problem_stats 배치 UPSERT (누적 횟수에 더하고 정답률은 SQL에서 다시 계산)
+     */
+    void batchUpsert(Collection<ProblemStatsDelta> deltas);
+}
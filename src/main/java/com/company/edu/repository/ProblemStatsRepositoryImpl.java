@@ -0,0 +1,42 @@
+package com.company.edu.repository;
+
+import com.company.edu.dto.stats.ProblemStatsDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProblemStatsRepositoryImpl implements ProblemStatsRepositoryCustom {
+
+    // ON DUPLICATE KEY UPDATE는 왼쪽부터 적용되므로 correct_rate는 갱신된 횟수로 계산됨
+    private static final String UPSERT_SQL =
+            "INSERT INTO problem_stats (problem_id, total_attempts, correct_attempts, correct_rate, updated_at) " +
+            "VALUES (?, ?, ?, ROUND(100 * ? / ?), ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_attempts = COALESCE(total_attempts, 0) + VALUES(total_attempts), " +
+            "correct_attempts = COALESCE(correct_attempts, 0) + VALUES(correct_attempts), " +
+            "correct_rate = ROUND(100 * correct_attempts / NULLIF(total_attempts, 0)), " +
+            "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchUpsert(Collection<ProblemStatsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (ProblemStatsDelta delta : deltas) {
+            args.add(new Object[]{delta.problemId(), delta.attempts(), delta.correctAttempts(),
+                    delta.correctAttempts(), delta.attempts(), now});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+}
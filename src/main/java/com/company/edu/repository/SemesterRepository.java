@@ -1,5 +1,6 @@
 package com.company.edu.repository;
 
+import com.company.edu.dto.curriculum.CurriculumRow;
 import com.company.edu.entity.problem.Semesters;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,4 +17,17 @@ public interface SemesterRepository extends JpaRepository<Semesters, Integer> {
                                               @Param("semesterName") String semesterName);
 
     List<Semesters> findByGradeLevel(Semesters.GradeLevel gradeLevel);
+
+    // 교육과정 트리 전체 (한 번의 조회, 하위 단원이 없는 노드도 포함)
+    @Query("SELECT s.id AS semesterId, s.gradeLevel AS gradeLevel, s.semesterName AS semesterName, " +
+            "s.semesterCode AS semesterCode, s.curriculumYear AS curriculumYear, s.isActive AS isActive, " +
+            "maju.id AS majorUnitId, maju.name AS majorUnitName, " +
+            "mdu.id AS middleUnitId, mdu.name AS middleUnitName, " +
+            "mu.id AS minorUnitId, mu.name AS minorUnitName " +
+            "FROM Semesters s " +
+            "LEFT JOIN MajorUnit maju ON maju.semesters = s " +
+            "LEFT JOIN MiddleUnit mdu ON mdu.majorUnit = maju " +
+            "LEFT JOIN MinorUnit mu ON mu.middleUnit = mdu " +
+            "ORDER BY s.id, maju.id, mdu.id, mu.id")
+    List<CurriculumRow> findCurriculumRows();
 }
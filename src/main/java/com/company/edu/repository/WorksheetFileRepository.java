@@ -0,0 +1,14 @@
+package com.company.edu.repository;
+
+import com.company.edu.entity.worksheet.WorksheetFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WorksheetFileRepository extends JpaRepository<WorksheetFile, Long> {
+
+    Optional<WorksheetFile> findFirstByWorksheet_WorksheetIdAndFileName(Long worksheetId, String fileName);
+
+    List<WorksheetFile> findByWorksheet_WorksheetId(Long worksheetId);
+}
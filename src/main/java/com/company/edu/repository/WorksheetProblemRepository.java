@@ -1,5 +1,8 @@
 package com.company.edu.repository;
 
+import com.company.edu.dto.grading.AnswerKeyRow;
+import com.company.edu.dto.pdf.RenderProblem;
+import com.company.edu.dto.worksheet.ProblemVersionView;
 import com.company.edu.entity.worksheet.Worksheet;
 import com.company.edu.entity.worksheet.WorksheetProblem;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,7 +13,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface WorksheetProblemRepository extends JpaRepository<WorksheetProblem, Long> {
+public interface WorksheetProblemRepository extends JpaRepository<WorksheetProblem, Long>, WorksheetProblemRepositoryCustom {
 
 
     /**
@@ -39,6 +42,39 @@ public interface WorksheetProblemRepository extends JpaRepository<WorksheetProbl
     List<WorksheetProblem> findByWorksheetWithProblemFetch(@Param("worksheet") Worksheet worksheet);
 
 
+    /**
+     * 학습지 문제 ID와 수정 시각만 순서대로 조회 (PDF 캐시 키 계산용)
+     */
+    @Query("SELECT p.id AS problemId, p.updatedAt AS updatedAt FROM WorksheetProblem wp " +
+            "JOIN wp.problem p " +
+            "WHERE wp.worksheet.worksheetId = :worksheetId " +
+            "ORDER BY wp.problemOrder ASC")
+    List<ProblemVersionView> findProblemVersions(@Param("worksheetId") Long worksheetId);
+
+    /**
+     * PDF 렌더링에 필요한 문제 컬럼만 순서대로 조회 (엔티티를 만들지 않음)
+     */
+    @Query("SELECT new com.company.edu.dto.pdf.RenderProblem(" +
+            "p.id, wp.problemOrder, p.imagePath, p.imageWidth, p.imageHeight, p.problemType, p.solution, p.hint) " +
+            "FROM WorksheetProblem wp " +
+            "JOIN wp.problem p " +
+            "WHERE wp.worksheet.worksheetId = :worksheetId " +
+            "ORDER BY wp.problemOrder ASC")
+    List<RenderProblem> findRenderProblems(@Param("worksheetId") Long worksheetId);
+
+    /**
+     * 채점용 정답을 순서대로 조회 (객관식/주관식 정답 테이블 LEFT JOIN 한 번)
+     */
+    @Query("SELECT new com.company.edu.dto.grading.AnswerKeyRow(" +
+            "p.id, wp.problemOrder, p.problemType, mc.correctOptionNumber, sa.correctAnswer, sa.alternativeAnswers) " +
+            "FROM WorksheetProblem wp " +
+            "JOIN wp.problem p " +
+            "LEFT JOIN p.multipleChoiceAnswer mc " +
+            "LEFT JOIN p.subjectiveAnswer sa " +
+            "WHERE wp.worksheet.worksheetId = :worksheetId " +
+            "ORDER BY wp.problemOrder ASC")
+    List<AnswerKeyRow> findAnswerKeyRows(@Param("worksheetId") Long worksheetId);
+
     List<WorksheetProblem> findAllByWorksheetOrderByProblemOrderAsc(Worksheet worksheet);
 
     @Modifying(flushAutomatically = true, clearAutomatically = true)
@@ -0,0 +1,20 @@
+package com.company.edu.repository;
+
+import com.company.edu.dto.worksheet.WorksheetProblemRow;
+
+import java.util.List;
+import java.util.Map;
+
+public interface WorksheetProblemRepositoryCustom {
+
+    /**
+     * worksheet_problem 배치 INSERT (IDENTITY 키라 Hibernate 배치가 불가능하므로 JDBC로 처리)
+     */
+    void batchInsert(Long worksheetId, List<WorksheetProblemRow> rows);
+
+    /**
+     * 문제 순서 배치 UPDATE
+     * @param ordersById worksheetProblemId -> 새 순서
+     */
+    void batchUpdateOrders(Map<Long, Integer> ordersById);
+}
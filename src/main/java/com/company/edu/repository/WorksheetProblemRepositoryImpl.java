@@ -0,0 +1,51 @@
+package com.company.edu.repository;
+
+import com.company.edu.dto.worksheet.WorksheetProblemRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class WorksheetProblemRepositoryImpl implements WorksheetProblemRepositoryCustom {
+
+    // 운영 참고: mariadb-java-client 3.x는 rewriteBatchedStatements를 무시한다.
+    // 3.5 기준 INSERT 배치는 useBulkStmtsForInserts(기본 true)로 한 번에 전송되지만,
+    // UPDATE 배치(batchUpdateOrders)까지 묶으려면 JDBC URL에 useBulkStmts=true를 붙여야 한다.
+    private static final String INSERT_SQL =
+            "INSERT INTO worksheet_problem (worksheet_id, problem_id, problem_order, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_ORDER_SQL =
+            "UPDATE worksheet_problem SET problem_order = ? WHERE worksheet_problem_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(Long worksheetId, List<WorksheetProblemRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (WorksheetProblemRow row : rows) {
+            args.add(new Object[]{worksheetId, row.problemId(), row.problemOrder(), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    @Override
+    public void batchUpdateOrders(Map<Long, Integer> ordersById) {
+        if (ordersById.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(ordersById.size());
+        ordersById.forEach((id, order) -> args.add(new Object[]{order, id}));
+        jdbcTemplate.batchUpdate(UPDATE_ORDER_SQL, args);
+    }
+}
@@ -1,11 +1,41 @@
 package com.company.edu.repository;
 
+import com.company.edu.dto.worksheet.SavedWorksheetRow;
 import com.company.edu.entity.worksheet.Worksheet;
 import com.company.edu.entity.user.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface WorksheetRepository extends JpaRepository<Worksheet, Long> {
     Page<Worksheet> findByStatusAndAuthorId(Worksheet.Status status, Member memberId, Pageable pageable);
+
+    /**
+     * 작성자의 상태별 학습지 전체 (일괄 내보내기용, ID 순)
+     */
+    @Query("SELECT w FROM Worksheet w WHERE w.status = :status AND w.authorId.memberId = :memberId ORDER BY w.worksheetId")
+    List<Worksheet> findAllByStatusAndAuthor(@Param("status") Worksheet.Status status, @Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 저장된 학습지 헤더/문제/단원명/정답률을 한 번의 쿼리로 조회 (문제 순서대로)
+     */
+    @Query("SELECT w.worksheetId AS worksheetId, w.authorId.memberId AS authorId, " +
+            "w.title AS title, w.tester AS tester, w.tag AS tag, w.problemCount AS problemCount, " +
+            "w.difficulty AS difficulty, w.problemType AS worksheetProblemType, " +
+            "w.autoGrading AS autoGrading, w.mockExamIncluded AS mockExamIncluded, " +
+            "wp.problemOrder AS problemOrder, p.id AS problemId, p.problemType AS problemType, " +
+            "p.difficulty AS problemDifficulty, mu.id AS minorUnitId, mu.name AS unitName, p.imagePath AS imagePath, " +
+            "p.solution AS solution, p.hint AS hint, ps.correctRate AS correctRate " +
+            "FROM Worksheet w " +
+            "LEFT JOIN w.worksheetProblems wp " +
+            "LEFT JOIN wp.problem p " +
+            "LEFT JOIN p.minorUnit mu " +
+            "LEFT JOIN p.problemStats ps " +
+            "WHERE w.worksheetId = :worksheetId " +
+            "ORDER BY wp.problemOrder ASC")
+    List<SavedWorksheetRow> findSavedWorksheetRows(@Param("worksheetId") Long worksheetId);
 }
@@ -1,8 +1,12 @@
 package com.company.edu.repository.user;
 
+import com.company.edu.dto.auth.MemberTokenVersionView;
 import com.company.edu.entity.user.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +21,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByNameAndPhoneNumber(String name, String phoneNumber);
 
     Optional<Member> findByNameAndPhoneNumberAndEmail(String name, String phoneNumber, String email);
+
+    // 토큰 일괄 폐기 동기화
+    @Query("SELECT m.memberId AS memberId, m.tokenVersion AS tokenVersion FROM Member m WHERE m.tokenRevokedAt > :since")
+    List<MemberTokenVersionView> findTokenRevocationsSince(@Param("since") LocalDateTime since);
 }
@@ -5,6 +5,8 @@ import com.company.edu.common.code.error.UserErrorCode;
 import com.company.edu.common.code.error.WorksheetErrorCode;
 import com.company.edu.common.customException.RestApiException;
 import com.company.edu.config.user.CustomUserDetails;
+import com.company.edu.dto.pdf.RenderProblem;
+import com.company.edu.dto.pdf.WorksheetRenderModel;
 import com.company.edu.dto.worksheet.*;
 import com.company.edu.dto.user.CustomUserInfoDto;
 import com.company.edu.entity.problem.Problem;
@@ -14,6 +16,12 @@ import com.company.edu.entity.user.Member;
 import com.company.edu.entity.worksheet.WorksheetProblem;
 import com.company.edu.repository.*;
 import com.company.edu.repository.user.MemberRepository;
+import com.company.edu.service.curriculum.CurriculumTreeService;
+import com.company.edu.service.pdf.PdfCacheService;
+import com.company.edu.service.problem.ProblemCandidateFeed;
+import com.company.edu.service.problem.ProblemSampler;
+import com.company.edu.service.stats.MinorUnitStatsService;
+import com.company.edu.service.worksheet.ProblemStatisticsCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,7 +33,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -45,6 +52,11 @@ public class WorksheetService {
     private final WorksheetRepository worksheetRepository;
     private final MemberRepository memberRepository;
     private final WorksheetProblemRepository worksheetProblemRepository;
+    private final ProblemSampler problemSampler;
+    private final ProblemCandidateFeed problemCandidateFeed;
+    private final PdfCacheService pdfCacheService;
+    private final CurriculumTreeService curriculumTreeService;
+    private final MinorUnitStatsService minorUnitStatsService;
 
     public WorksheetResponse generateWorksheet(WorksheetRequest request) {
         // 1. 선택된 경로들에서 소단원명들 추출
@@ -105,7 +117,7 @@ public class WorksheetService {
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
 
         // 5. 전체 이용 가능한 문제 수 조회 (제외 문제 제외)
-        int totalAvailableProblems = problemRepository.countAvailableProblemsExcluding(minorUnitIds, problemType, excludeIds);
+        int totalAvailableProblems = countAvailableProblems(minorUnitIds, problemType, excludeIds);
 
 
         Map<String, Integer> stringIntegerMap = calculateDifficultyTargets(request.getSize(), request.getSettings().getLevelWeight());
@@ -146,6 +158,32 @@ public class WorksheetService {
 
 
 
+    /**
+     * 문제 추가 후보 피드 (seed 순열 + keyset 커서)
+     */
+    public WorksheetResponse.CandidateFeedResponseDto getCandidateFeed(WorksheetRequest.CandidateFeedRequestDto request) {
+        List<Long> minorUnitIds = request.getMinorUnitIds();
+
+        if (minorUnitIds == null || minorUnitIds.isEmpty()) {
+            throw new RestApiException(CommonErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        String problemType = request.getSettings() != null ? request.getSettings().getProblemType() : null;
+
+        ProblemCandidateFeed.Page page = problemCandidateFeed.next(
+                minorUnitIds, problemType, request.getExcludeProblemIds(),
+                request.getSize(), request.getSeed(), request.getCursor());
+
+        WorksheetResponse.CandidateFeedResponseDto response = new WorksheetResponse.CandidateFeedResponseDto();
+        response.setProblems(page.getProblems());
+        response.setSeed(page.getSeed());
+        response.setNextCursor(page.getNextCursor());
+        response.setHasNext(page.isHasNext());
+        response.setTotalAvailable(page.getTotalAvailable());
+        response.setRemaining(page.getRemaining());
+        return response;
+    }
+
     /**
      * levelWeight 배열을 기반으로 난이도별 목표 문제 개수 계산
      * @param totalCount 총 문제 개수
@@ -178,87 +216,14 @@ public class WorksheetService {
 
     /**
      * 난이도별 목표에 맞춰 문제 선택
+     * 난이도별 표본 추출과 부족분 보충을 한 번의 ID 조회로 처리하고 당첨 문제만 하이드레이션
      */
     private List<ProblemDTO> selectProblemsByDifficulty(
             List<Long> minorUnitIds,
             Map<String, Integer> difficultyTargets,
             String problemType
     ) {
-        List<ProblemDTO> selectedProblems = new ArrayList<>();
-
-        for (Map.Entry<String, Integer> entry : difficultyTargets.entrySet()) {
-            String difficulty = entry.getKey();
-            int targetCount = entry.getValue();
-
-            if (targetCount <= 0) continue;
-
-            // 해당 난이도의 문제들 조회
-            List<ProblemDTO> availableProblems = problemRepository.findProblemsByUnitIdsAndFilters(
-                    minorUnitIds,
-                    Collections.singletonList(difficulty),
-                    problemType
-            );
-
-            // 목표 개수만큼 선택 (부족하면 있는 만큼만)
-            int selectCount = Math.min(targetCount, availableProblems.size());
-
-            if (selectCount > 0) {
-                // 랜덤하게 선택하거나 순서대로 선택
-                Collections.shuffle(availableProblems); // 랜덤 선택을 위한 셔플
-                selectedProblems.addAll(availableProblems.subList(0, selectCount));
-            }
-
-            // 부족한 경우 로그 출력 (선택사항)
-            if (selectCount < targetCount) {
-                System.out.println("난이도 '" + difficulty + "' 문제 부족: 요청=" + targetCount + ", 실제=" + selectCount);
-            }
-        }
-
-        // 문제가 부족한 경우 다른 난이도에서 보충
-        int totalSelected = selectedProblems.size();
-        int totalTarget = difficultyTargets.values().stream().mapToInt(Integer::intValue).sum();
-
-        if (totalSelected < totalTarget) {
-            selectedProblems.addAll(fillShortage(minorUnitIds, problemType, totalTarget - totalSelected, selectedProblems));
-        }
-
-        return selectedProblems;
-    }
-
-    /**
-     * 부족한 문제를 다른 난이도에서 보충
-     */
-    private List<ProblemDTO> fillShortage(
-            List<Long> minorUnitIds,
-            String problemType,
-            int shortage,
-            List<ProblemDTO> alreadySelected
-    ) {
-        List<ProblemDTO> additionalProblems = new ArrayList<>();
-
-        // 이미 선택된 문제 ID 목록
-        Set<Long> selectedIds = alreadySelected.stream()
-                .map(ProblemDTO::getId)
-                .collect(Collectors.toSet());
-
-        // 모든 문제 조회 (난이도 제한 없음)
-        List<ProblemDTO> allAvailable = problemRepository.findProblemsByUnitIdsAndFilters(
-                minorUnitIds, null, problemType
-        );
-
-        // 이미 선택된 문제 제외
-        List<ProblemDTO> candidates = allAvailable.stream()
-                .filter(p -> !selectedIds.contains(p.getId()))
-                .collect(Collectors.toList());
-
-        Collections.shuffle(candidates);
-
-        int fillCount = Math.min(shortage, candidates.size());
-        if (fillCount > 0) {
-            additionalProblems.addAll(candidates.subList(0, fillCount));
-        }
-
-        return additionalProblems;
+        return problemSampler.sample(minorUnitIds, difficultyTargets, problemType);
     }
 
     private List<String> extractUnitNames(List<String> selectedPaths) {
@@ -303,6 +268,10 @@ public class WorksheetService {
 
         Semesters.GradeLevel gradeLevel = parseGradeLevel(gradeStr);
 
+        // 교육과정 트리가 적재되어 있으면 DB 조회 없이
+        if (curriculumTreeService.isReady()) {
+            return curriculumTreeService.minorUnitNamesBySemester(gradeLevel, semesterName);
+        }
         return minorUnitRepository.findBySemester(gradeLevel, semesterName)
                 .stream()
                 .map(mu -> mu.getName())
@@ -310,6 +279,9 @@ public class WorksheetService {
     }
 
     private List<String> getUnitNamesByMajorUnit(String majorUnitName) {
+        if (curriculumTreeService.isReady()) {
+            return curriculumTreeService.minorUnitNamesByMajorUnit(majorUnitName);
+        }
         return minorUnitRepository.findByMajorUnitName(majorUnitName)
                 .stream()
                 .map(mu -> mu.getName())
@@ -317,6 +289,9 @@ public class WorksheetService {
     }
 
     private List<String> getUnitNamesByMiddleUnit(String middleUnitName) {
+        if (curriculumTreeService.isReady()) {
+            return curriculumTreeService.minorUnitNamesByMiddleUnit(middleUnitName);
+        }
         List<String> collect = minorUnitRepository.findByMiddleUnitName(middleUnitName)
                 .stream()
                 .map(mu -> mu.getName())
@@ -336,27 +311,38 @@ public class WorksheetService {
     private WorksheetResponse.WorksheetStatistics generateStatistics(List<Long> minorUnitIds, List<ProblemDTO> problems) {
         WorksheetResponse.WorksheetStatistics statistics = new WorksheetResponse.WorksheetStatistics();
 
-        // 기본 통계
-        statistics.setTotalProblems(problems.size());
-        statistics.setMultipleChoice((int) problems.stream().filter(p -> "객관식".equals(p.getProblemType())).count());
-        statistics.setSubjective((int) problems.stream().filter(p -> "주관식".equals(p.getProblemType())).count());
-        statistics.setShortAnswer((int) problems.stream().filter(p -> "서술형".equals(p.getProblemType())).count());
+        // 기본 통계 + 실제 선택된 문제들의 난이도별 분포 (한 번의 순회)
+        ProblemStatisticsCounter.of(problems).applyTo(statistics);
 
         // 실제 ProblemStats에서 평균 정답률 계산
-        Double avgCorrectRate = problemRepository.getAverageCorrectRateByUnits(minorUnitIds);
+        Double avgCorrectRate = averageCorrectRate(minorUnitIds);
         statistics.setNationalAverageCorrectRate(avgCorrectRate != null ? avgCorrectRate : 75.0);
 
-        // 실제 선택된 문제들의 난이도별 분포 (실제 개수)
-        WorksheetResponse.DifficultyDistribution distribution = new WorksheetResponse.DifficultyDistribution();
-        distribution.setLow((int) problems.stream().filter(p -> "하".equals(p.getDifficulty())).count());
-        distribution.setMediumLow((int) problems.stream().filter(p -> "중하".equals(p.getDifficulty())).count());
-        distribution.setMedium((int) problems.stream().filter(p -> "중".equals(p.getDifficulty())).count());
-        distribution.setHigh((int) problems.stream().filter(p -> "상".equals(p.getDifficulty())).count());
-        distribution.setVeryHigh((int) problems.stream().filter(p -> "최상".equals(p.getDifficulty())).count());
+        return statistics;
+    }
 
-        statistics.setDifficultyDistribution(distribution);
+    /**
+     * 소단원들의 평균 정답률 (소단원 집계가 준비되기 전이면 직접 집계)
+     */
+    private Double averageCorrectRate(List<Long> minorUnitIds) {
+        if (minorUnitStatsService.isReady()) {
+            return minorUnitStatsService.averageCorrectRate(minorUnitIds);
+        }
+        return problemRepository.getAverageCorrectRateByUnits(minorUnitIds);
+    }
 
-        return statistics;
+    /**
+     * 추가 가능한 문제 수 = 소단원 집계 합계 - 범위 안의 제외 문제 수
+     */
+    private int countAvailableProblems(List<Long> minorUnitIds, String problemType, Set<Long> excludeIds) {
+        if (!minorUnitStatsService.isReady()) {
+            return problemRepository.countAvailableProblemsExcluding(minorUnitIds, problemType, excludeIds);
+        }
+        long total = minorUnitStatsService.countProblems(minorUnitIds, problemType);
+        if (!excludeIds.isEmpty()) {
+            total -= problemRepository.countExcludedProblemsInUnits(minorUnitIds, problemType, excludeIds);
+        }
+        return (int) Math.max(total, 0);
     }
     @Transactional
     public void saveWorksheet(WorksheetRequest.WorksheetCreateRequest request) {
@@ -373,22 +359,39 @@ public class WorksheetService {
         if (!findMember.getMemberId().equals(request.getAuthorId())) {
             throw new RestApiException(UserErrorCode.NOT_ACCESS_AUTHORITY);
         }
+        List<WorksheetProblemRow> rows = request.getProblemOrders() == null ? new ArrayList<>() :
+                request.getProblemOrders().stream()
+                        .map(po -> new WorksheetProblemRow(po.getProblemId(), po.getOrder()))
+                        .collect(Collectors.toList());
+        validateProblemsExist(rows);
+
         Worksheet worksheet = Worksheet.generateEntity(request, findMember);
         Worksheet savedWorksheet = worksheetRepository.save(worksheet);
 
-        List<WorksheetProblem> worksheetProblems = new ArrayList<>();
-        for (WorksheetRequest.WorksheetCreateRequest.ProblemOrder problemOrder : request.getProblemOrders()) {
-            Problem problem = problemRepository.findById(problemOrder.getProblemId()).orElseThrow(() -> new RestApiException(CommonErrorCode.RESOURCE_NOT_FOUND));
+        worksheetProblemRepository.batchInsert(savedWorksheet.getWorksheetId(), rows);
+    }
 
-            WorksheetProblem build = WorksheetProblem.builder()
-                    .worksheet(savedWorksheet)
-                    .problem(problem)
-                    .problemOrder(problemOrder.getOrder())
-                    .build();
+    /**
+     * 요청된 문제 ID들을 한 번의 쿼리로 존재 확인
+     */
+    private void validateProblemsExist(List<WorksheetProblemRow> rows) {
+        Set<Long> requestedIds = rows.stream()
+                .map(WorksheetProblemRow::problemId)
+                .collect(Collectors.toSet());
+        if (requestedIds.isEmpty()) {
+            return;
+        }
+        if (requestedIds.contains(null)) {
+            throw new RestApiException(CommonErrorCode.INVALID_PARAMETER);
+        }
 
-            worksheetProblems.add(build);
+        List<Long> existingIds = problemRepository.findExistingIds(requestedIds);
+        if (existingIds.size() != requestedIds.size()) {
+            Set<Long> missing = new HashSet<>(requestedIds);
+            existingIds.forEach(missing::remove);
+            log.warn("존재하지 않는 문제 ID: {}", missing);
+            throw new RestApiException(CommonErrorCode.RESOURCE_NOT_FOUND);
         }
-        worksheetProblemRepository.saveAll(worksheetProblems);
     }
 
     public WorksheetResponse.WorksheetListResponse getWorksheet(String page, String size) {
@@ -463,66 +466,115 @@ public class WorksheetService {
     @Transactional
     public List<WorksheetProblem> getWorksheetProblemsOrdered(Long worksheetId) {
         Worksheet worksheet = getWorksheetById(worksheetId);
-        List<WorksheetProblem> byWorksheetOrderByProblemOrderAsc = worksheetProblemRepository.findByWorksheetOrderByProblemOrderAsc(worksheet);
-        for (WorksheetProblem worksheetProblem : byWorksheetOrderByProblemOrderAsc) {
-            worksheetProblem.getProblem().getId();
+        return worksheetProblemRepository.findByWorksheetWithProblemFetch(worksheet);
+    }
+
+    /**
+     * 일괄 내보내기 대상 학습지 조회
+     * ID가 주어지면 요청 순서대로, 없으면 내 학습지 중 해당 상태(기본 ACTIVE) 전체
+     * 엔티티를 읽기 전에 개수를 확인해서 maxWorksheets를 넘으면 거부한다.
+     */
+    @Transactional(readOnly = true)
+    public List<Worksheet> getWorksheetsForExport(List<Long> worksheetIds, String status, Long memberId, int maxWorksheets) {
+        if (worksheetIds != null && !worksheetIds.isEmpty()) {
+            Set<Long> ids = new LinkedHashSet<>(worksheetIds);
+            if (ids.size() > maxWorksheets) {
+                throw new RestApiException(WorksheetErrorCode.PDF_EXPORT_TOO_MANY_WORKSHEETS);
+            }
+            Map<Long, Worksheet> byId = worksheetRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Worksheet::getWorksheetId, w -> w));
+            List<Worksheet> worksheets = new ArrayList<>(byId.size());
+            for (Long id : ids) {
+                Worksheet worksheet = byId.get(id);
+                if (worksheet == null) {
+                    throw new RestApiException(WorksheetErrorCode.WORKSHEET_NOT_FOUND);
+                }
+                worksheets.add(worksheet);
+            }
+            return worksheets;
         }
-        return byWorksheetOrderByProblemOrderAsc;
+
+        Worksheet.Status worksheetStatus;
+        try {
+            worksheetStatus = status == null ? Worksheet.Status.ACTIVE : Worksheet.Status.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new RestApiException(CommonErrorCode.INVALID_PARAMETER);
+        }
+        // 한 건 더 읽어서 초과 여부만 확인
+        List<Worksheet> worksheets = worksheetRepository.findAllByStatusAndAuthor(
+                worksheetStatus, memberId, PageRequest.of(0, maxWorksheets + 1));
+        if (worksheets.size() > maxWorksheets) {
+            throw new RestApiException(WorksheetErrorCode.PDF_EXPORT_TOO_MANY_WORKSHEETS);
+        }
+        return worksheets;
     }
 
-    @Transactional
+    /**
+     * PDF 렌더링 입력 조회 (엔티티에서 분리된 값이라 트랜잭션 밖에서 렌더링 가능)
+     */
+    @Transactional(readOnly = true)
+    public WorksheetRenderModel loadRenderModel(Long worksheetId) {
+        Worksheet worksheet = getWorksheetById(worksheetId);
+        List<RenderProblem> problems = worksheetProblemRepository.findRenderProblems(worksheetId);
+        if (problems.isEmpty()) {
+            throw new RestApiException(WorksheetErrorCode.NO_PROBLEMS_FOUND);
+        }
+        return WorksheetRenderModel.of(worksheet, problems);
+    }
+
+    /**
+     * 저장된 학습지 조회 (헤더/문제/단원명/정답률을 한 번의 쿼리로)
+     */
     public SavedWorksheetResponseDto getSavedWorksheetProblem(Long worksheetId) {
-        Worksheet worksheet = worksheetRepository.findById(worksheetId).orElseThrow(
-                () -> new RestApiException(WorksheetErrorCode.WORKSHEET_NOT_FOUND)
-        );
-        List<WorksheetProblem> allById = worksheetProblemRepository.findAllByWorksheetOrderByProblemOrderAsc(worksheet);
+        List<SavedWorksheetRow> rows = worksheetRepository.findSavedWorksheetRows(worksheetId);
+        if (rows.isEmpty()) {
+            throw new RestApiException(WorksheetErrorCode.WORKSHEET_NOT_FOUND);
+        }
+
+        List<ProblemDTO> problems = new ArrayList<>(rows.size());
+        Set<Long> minorUnitIds = new HashSet<>();
+        ProblemStatisticsCounter counter = new ProblemStatisticsCounter();
+        for (SavedWorksheetRow row : rows) {
+            if (row.getProblemId() == null) continue; // 문제가 없는 학습지
 
-        List<ProblemDTO> problems = new ArrayList<>();
-        allById.stream().map(WorksheetProblem::getProblem).forEach(problem -> {
-            int i = 1;
-            log.debug("i = {}", i);
-            String name = problem.getMinorUnit().getName();
-            BigDecimal correctRate = problem.getProblemStats().getCorrectRate();
-            problems.add(new ProblemDTO(problem));
-        });
+            if (row.getMinorUnitId() != null) {
+                minorUnitIds.add(row.getMinorUnitId().longValue());
+            }
+
+            String problemType = row.getProblemType() != null ? row.getProblemType().name() : null;
+            problems.add(new ProblemDTO(row.getProblemId(), problemType, row.getProblemDifficulty(),
+                    row.getUnitName(), row.getImagePath(), row.getSolution(), row.getHint(),
+                    row.getCorrectRate(), "기본"));
+            counter.add(problemType, row.getProblemDifficulty());
+        }
 
         SavedWorksheetResponseDto.WorksheetStatistics statistics = new SavedWorksheetResponseDto.WorksheetStatistics();
 
-        // 기본 통계
-        statistics.setTotalProblems(problems.size());
-        statistics.setMultipleChoice((int) problems.stream().filter(p -> "객관식".equals(p.getProblemType())).count());
-        statistics.setSubjective((int) problems.stream().filter(p -> "주관식".equals(p.getProblemType())).count());
-        statistics.setShortAnswer((int) problems.stream().filter(p -> "서술형".equals(p.getProblemType())).count());
+        // 기본 통계 + 난이도별 분포
+        counter.applyTo(statistics);
 
         // 실제 ProblemStats에서 평균 정답률 계산
-        Double avgCorrectRate = null;
-//        avgCorrectRate = problemRepository.getAverageCorrectRateByUnits(unitNames);
+        Double avgCorrectRate = minorUnitIds.isEmpty() ? null : averageCorrectRate(new ArrayList<>(minorUnitIds));
         statistics.setNationalAverageCorrectRate(avgCorrectRate != null ? avgCorrectRate : 75.0);
 
-        // 실제 선택된 문제들의 난이도별 분포 (실제 개수)
-        SavedWorksheetResponseDto.DifficultyDistribution distribution = new SavedWorksheetResponseDto.DifficultyDistribution();
-        distribution.setLow((int) problems.stream().filter(p -> "하".equals(p.getDifficulty())).count());
-        distribution.setMediumLow((int) problems.stream().filter(p -> "중하".equals(p.getDifficulty())).count());
-        distribution.setMedium((int) problems.stream().filter(p -> "중".equals(p.getDifficulty())).count());
-        distribution.setHigh((int) problems.stream().filter(p -> "상".equals(p.getDifficulty())).count());
-        distribution.setVeryHigh((int) problems.stream().filter(p -> "최상".equals(p.getDifficulty())).count());
-
-        statistics.setDifficultyDistribution(distribution);
-
-        WorksheetSettingResponseDto setting = new WorksheetSettingResponseDto(worksheet.getProblemCount(), worksheet.getDifficulty(), worksheet.getProblemType(), worksheet.getAutoGrading(), worksheet.getMockExamIncluded());
+        SavedWorksheetRow header = rows.get(0);
+        WorksheetSettingResponseDto setting = new WorksheetSettingResponseDto(
+                header.getProblemCount() != null ? header.getProblemCount() : 0,
+                header.getDifficulty(), header.getWorksheetProblemType(),
+                Boolean.TRUE.equals(header.getAutoGrading()), header.getMockExamIncluded());
 
         SavedWorksheetResponseDto worksheetResponse = new SavedWorksheetResponseDto();
         worksheetResponse.setProblems(problems);
         worksheetResponse.setStatistics(statistics);
         worksheetResponse.setSetting(setting);
-        worksheetResponse.setAuthorId(worksheet.getAuthorId().getMemberId());
-        worksheetResponse.setTester(worksheet.getTester());
-        worksheetResponse.setTag(worksheet.getTag());
-        worksheetResponse.setTitle(worksheet.getTitle());
+        worksheetResponse.setAuthorId(header.getAuthorId());
+        worksheetResponse.setTester(header.getTester());
+        worksheetResponse.setTag(header.getTag());
+        worksheetResponse.setTitle(header.getTitle());
 
         return worksheetResponse;
-//        problemRepository.findSavedWorksheetProblem()
     }
+
     @Transactional
     public void updateWorksheet(Long worksheetId, UpdateWorksheetRequestDto request) {
 
@@ -545,25 +597,47 @@ public class WorksheetService {
         // 3. 학습지 기본 정보 업데이트 (예: 문제 수)
         worksheet.updateProblemCountAndDescription(request.getProblemCount(), request.getTitle(), request.getTester(), request.getTag());
 
-        // 4. 기존 문제 순서 정보 모두 삭제
-        worksheetProblemRepository.deleteByWorksheetId(worksheet.getWorksheetId());
-
-        // 5. 새로운 문제 순서 정보 생성 및 저장
-        List<WorksheetProblem> newWorksheetProblems = new ArrayList<>();
-        for (UpdateWorksheetRequestDto.ProblemOrder problemOrder : request.getProblemOrders()) {
-            Problem problem = problemRepository.findById(problemOrder.getProblemId())
-                    .orElseThrow(() -> new RestApiException(CommonErrorCode.RESOURCE_NOT_FOUND));
-
-            WorksheetProblem newWp = WorksheetProblem.builder()
-                    .worksheet(worksheet)
-                    .problem(problem)
-                    .problemOrder(problemOrder.getOrder())
-                    .build();
-            newWorksheetProblems.add(newWp);
+        // 4. 기존 문제 순서와 비교하여 변경분만 반영
+        List<WorksheetProblemRow> requested = request.getProblemOrders() == null ? new ArrayList<>() :
+                request.getProblemOrders().stream()
+                        .map(po -> new WorksheetProblemRow(po.getProblemId(), po.getOrder()))
+                        .collect(Collectors.toList());
+
+        Map<Long, Deque<WorksheetProblem>> existingByProblemId = new HashMap<>();
+        for (WorksheetProblem wp : worksheetProblemRepository.findByWorksheetOrderByProblemOrderAsc(worksheet)) {
+            existingByProblemId.computeIfAbsent(wp.getProblem().getId(), id -> new ArrayDeque<>()).add(wp);
         }
-        worksheetProblemRepository.saveAll(newWorksheetProblems);
 
-        log.info("✅ 학습지 업데이트 완료: worksheetId={}", worksheetId);
+        List<WorksheetProblemRow> toInsert = new ArrayList<>();
+        Map<Long, Integer> toReorder = new HashMap<>();
+        for (WorksheetProblemRow row : requested) {
+            Deque<WorksheetProblem> matches = existingByProblemId.get(row.problemId());
+            WorksheetProblem existing = matches != null ? matches.poll() : null;
+            if (existing == null) {
+                toInsert.add(row);
+            } else if (!Objects.equals(existing.getProblemOrder(), row.problemOrder())) {
+                toReorder.put(existing.getWorksheetProblemId(), row.problemOrder());
+            }
+        }
+        List<Long> toDelete = existingByProblemId.values().stream()
+                .flatMap(Collection::stream)
+                .map(WorksheetProblem::getWorksheetProblemId)
+                .collect(Collectors.toList());
+
+        // 5. 새로 추가된 문제만 존재 확인 후 배치 반영
+        validateProblemsExist(toInsert);
+
+        if (!toDelete.isEmpty()) {
+            worksheetProblemRepository.deleteAllByIdInBatch(toDelete);
+        }
+        worksheetProblemRepository.batchUpdateOrders(toReorder);
+        worksheetProblemRepository.batchInsert(worksheet.getWorksheetId(), toInsert);
+
+        // 6. 렌더링된 PDF 캐시 무효화
+        pdfCacheService.evict(worksheetId);
+
+        log.info("✅ 학습지 업데이트 완료: worksheetId={}, 추가={}, 순서변경={}, 삭제={}",
+                worksheetId, toInsert.size(), toReorder.size(), toDelete.size());
     }
 
     @Transactional
@@ -578,6 +652,7 @@ public class WorksheetService {
             if (!worksheet.getAuthorId().getMemberId().equals(member.getMemberId())) {
                 throw new RestApiException(WorksheetErrorCode.WORKSHEET_ACCESS_DENIED);
             }
+            pdfCacheService.evict(id);
             worksheetRepository.delete(worksheet);
             successList.add(id);
             failedList.remove(id);
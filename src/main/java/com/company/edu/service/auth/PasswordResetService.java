@@ -1,18 +1,28 @@
 package com.company.edu.service.auth;
 
+import com.company.edu.common.code.error.CommonErrorCode;
 import com.company.edu.common.code.error.UserErrorCode;
 import com.company.edu.common.customException.RestApiException;
 import com.company.edu.common.email.EmailService;
+import com.company.edu.common.ratelimit.RateLimitPolicy;
+import com.company.edu.common.ratelimit.RateLimiter;
 import com.company.edu.common.util.TokenGenerator;
+import com.company.edu.config.user.PrincipalCache;
 import com.company.edu.dto.user.SearchPwdRequestDto;
 import com.company.edu.entity.auth.PasswordResetToken;
 import com.company.edu.entity.user.Member;
 import com.company.edu.repository.auth.PasswordResetTokenRepository;
 import com.company.edu.repository.user.MemberRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -24,13 +34,31 @@ public class PasswordResetService {
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
     private final TokenGenerator tokenGenerator;
-    private final RateLimitingService rateLimitingService;
+    private final RateLimiter rateLimiter;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+
+    private RateLimitPolicy emailPolicy;
+
+    @Value("${app.rate-limit.password-reset-email.capacity:3}")
+    private int emailCapacity;
+
+    @Value("${app.rate-limit.password-reset-email.period-seconds:600}")
+    private long emailPeriod;
+
+    @PostConstruct
+    void init() {
+        this.emailPolicy = RateLimitPolicy.perSeconds(emailCapacity, emailPeriod);
+    }
 
     @Transactional
     public void initiatePasswordReset(SearchPwdRequestDto request) {
 
-        if (!rateLimitingService.isAllowed(request.getName())) {
-            throw new RestApiException(UserErrorCode.NOT_ACCESS_AUTHORITY);
+        // IP 기준 제한은 RateLimitFilter에서, 여기서는 대상 이메일 기준으로 제한
+        String emailKey = request.getEmail() == null ? "" : request.getEmail().trim().toLowerCase(Locale.ROOT);
+        if (!rateLimiter.tryAcquire("password-reset-email", emailKey, emailPolicy).allowed()) {
+            throw new RestApiException(CommonErrorCode.TOO_MANY_REQUESTS);
         }
 
         memberRepository.findByNameAndPhoneNumberAndEmail(request.getName(), request.getPhoneNumber(), request.getEmail()).ifPresent(member -> {
@@ -58,7 +86,21 @@ public class PasswordResetService {
 
         Member user = resetToken.getMember();
         user.setPassword(passwordEncoder.encode(newPassword));
+        // 기존에 발급된 액세스/리프레시 토큰 모두 폐기
+        user.revokeIssuedTokens();
         memberRepository.save(user);
+        refreshTokenService.revokeAllForMember(user.getMemberId());
+
+        // 커밋이 실패하면 기존 토큰은 아직 유효하므로 이 서버의 폐기 목록/캐시는 커밋 뒤에 반영
+        Long memberId = user.getMemberId();
+        int tokenVersion = user.getTokenVersion();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenRevocationService.memberTokensRevoked(memberId, tokenVersion);
+                principalCache.invalidate(memberId);
+            }
+        });
 
         // 사용 완료된 토큰은 즉시 삭제 (1회용)
         tokenRepository.delete(resetToken);
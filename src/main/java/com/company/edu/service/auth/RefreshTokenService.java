@@ -0,0 +1,125 @@
+package com.company.edu.service.auth;
+
+import com.company.edu.common.code.error.UserErrorCode;
+import com.company.edu.common.customException.RestApiException;
+import com.company.edu.entity.auth.RefreshToken;
+import com.company.edu.entity.user.Member;
+import com.company.edu.repository.auth.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/회전
+ *
+ * 토큰 원문은 클라이언트에만 있고 DB에는 SHA-256 해시만 저장한다.
+ * 사용할 때마다 새 토큰으로 바꾸며, 이미 사용된 토큰이 다시 들어오면 탈취로 보고 같은 family를 모두 폐기한다.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    /**
+     * 회전 결과 (새 리프레시 토큰 원문 + 회원)
+     */
+    public record Rotation(String refreshToken, Member member) {
+    }
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshTokenExpTime;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh_expiration_time:1209600}") long refreshTokenExpTime) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenExpTime = refreshTokenExpTime;
+    }
+
+    /**
+     * 로그인 시 새 family로 발급
+     */
+    @Transactional
+    public String issue(Member member) {
+        return issue(member, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰 회전 (재사용이 감지되면 family 전체 폐기)
+     */
+    @Transactional(noRollbackFor = RestApiException.class)
+    public Rotation rotate(String rawToken) {
+        String tokenHash = hash(rawToken);
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new RestApiException(UserErrorCode.INVALID_REFRESH_TOKEN));
+
+        if (token.isExpired() && !token.isRevoked()) {
+            throw new RestApiException(UserErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 조건부 UPDATE로 폐기해서 동시에 들어온 같은 토큰 중 하나만 통과시킴 (0건이면 이미 사용된 토큰)
+        if (token.isRevoked() || refreshTokenRepository.revokeIfActive(tokenHash, LocalDateTime.now()) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now());
+            log.warn("폐기된 리프레시 토큰 재사용 감지: memberId={}, family={}, 폐기={}",
+                    token.getMember().getMemberId(), token.getFamilyId(), revoked);
+            throw new RestApiException(UserErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        Member member = token.getMember();
+        return new Rotation(issue(member, token.getFamilyId()), member);
+    }
+
+    /**
+     * 로그아웃 (해당 토큰의 family 폐기, 없는 토큰은 무시)
+     */
+    @Transactional
+    public void revokeFamilyOf(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * 회원의 리프레시 토큰 전체 폐기 (비밀번호 재설정 등)
+     */
+    @Transactional
+    public void revokeAllForMember(Long memberId) {
+        refreshTokenRepository.revokeAllByMember(memberId, LocalDateTime.now());
+    }
+
+    @Scheduled(cron = "${app.auth.refresh-token.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 삭제: {}건", deleted);
+    }
+
+    private String issue(Member member, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(member, hash(rawToken), familyId,
+                LocalDateTime.now().plusSeconds(refreshTokenExpTime)));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
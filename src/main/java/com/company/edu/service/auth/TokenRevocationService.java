@@ -0,0 +1,226 @@
+package com.company.edu.service.auth;
+
+import com.company.edu.dto.auth.MemberTokenVersionView;
+import com.company.edu.entity.auth.RevokedAccessToken;
+import com.company.edu.repository.auth.RevokedAccessTokenRepository;
+import com.company.edu.repository.user.MemberRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 액세스 토큰 폐기 목록 (메모리 + DB 동기화)
+ *
+ * 회원 단위 폐기는 회원별 최소 토큰 버전(ver 클레임)으로, 토큰 단위 폐기(로그아웃)는 jti로 판단한다.
+ * jti는 블룸 필터를 먼저 보고 걸린 경우에만 정확한 목록을 확인하므로 대부분의 요청은 배열 몇 칸만 읽는다.
+ * 다른 서버에서 폐기한 내용은 sync-interval-ms 주기로 DB에서 가져온다.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    public static final String CLAIM_VERSION = "ver";
+
+    // 동기화 조회 구간을 겹쳐서 커밋 지연으로 놓치는 행이 없게 함
+    private static final long SYNC_OVERLAP_MS = 2000;
+
+    private final MemberRepository memberRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Long> revokedJtis = new ConcurrentHashMap<>();      // jti -> 토큰 만료 시각(ms)
+    private final Map<Long, Revocation> memberVersions = new ConcurrentHashMap<>(); // memberId -> 유효한 최소 버전
+
+    private record Revocation(int minVersion, long revokedAt) {
+    }
+
+    private final int bloomBits;
+    private final long tokenLifetimeMillis;
+
+    private volatile BloomFilter bloom;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationService(MemberRepository memberRepository,
+                                  RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.auth.revocation.bloom-bits:65536}") int bloomBits,
+                                  @Value("${jwt.expiration_time}") long accessTokenExpTime) {
+        this.memberRepository = memberRepository;
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bloomBits = bloomBits;
+        this.tokenLifetimeMillis = accessTokenExpTime * 1000;
+        this.bloom = new BloomFilter(bloomBits);
+    }
+
+    /**
+     * 아직 만료되지 않은 토큰이 있을 수 있는 구간만 읽어서 시작
+     */
+    @PostConstruct
+    void init() {
+        lastSyncedAt = LocalDateTime.now().minusSeconds(tokenLifetimeMillis / 1000);
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 목록 초기 로딩 실패, 다음 동기화에서 재시도", e);
+        }
+    }
+
+    /**
+     * 서명 검증이 끝난 토큰이 폐기되었는지
+     */
+    public boolean isRevoked(Claims claims) {
+        Long memberId = claims.get("memberId", Long.class);
+        if (memberId != null) {
+            Revocation revocation = memberVersions.get(memberId);
+            if (revocation != null) {
+                Integer version = claims.get(CLAIM_VERSION, Integer.class);
+                if ((version == null ? 0 : version) < revocation.minVersion()) {
+                    return true;
+                }
+            }
+        }
+
+        String jti = claims.getId();
+        return jti != null && bloom.mightContain(jti) && revokedJtis.containsKey(jti);
+    }
+
+    /**
+     * 액세스 토큰 한 개 폐기 (로그아웃)
+     */
+    public void revokeAccessToken(Claims claims) {
+        String jti = claims.getId();
+        Long memberId = claims.get("memberId", Long.class);
+        Date expiration = claims.getExpiration();
+        if (jti == null || memberId == null || expiration == null) {
+            return; // jti 없는 이전 형식 토큰은 만료까지 유효
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+        transactionTemplate.executeWithoutResult(status ->
+                revokedAccessTokenRepository.save(new RevokedAccessToken(jti, memberId, expiresAt)));
+        addJti(jti, expiration.getTime());
+    }
+
+    /**
+     * 회원의 기존 토큰 전체 폐기를 이 서버에 바로 반영 (DB 반영은 호출한 쪽 트랜잭션에서)
+     *
+     * @param minVersion 이 버전 미만으로 발급된 토큰은 폐기
+     */
+    public void memberTokensRevoked(Long memberId, int minVersion) {
+        memberVersions.merge(memberId, new Revocation(minVersion, System.currentTimeMillis()),
+                (current, next) -> current.minVersion() >= next.minVersion() ? current : next);
+    }
+
+    /**
+     * 다른 서버에서 폐기한 내용 가져오기
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt.minusNanos(SYNC_OVERLAP_MS * 1_000_000);
+
+        for (MemberTokenVersionView view : memberRepository.findTokenRevocationsSince(since)) {
+            memberTokensRevoked(view.getMemberId(), view.getTokenVersion());
+        }
+        for (RevokedAccessToken token : revokedAccessTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, startedAt)) {
+            addJti(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        lastSyncedAt = startedAt;
+    }
+
+    /**
+     * 만료된 항목 정리 후 블룸 필터 재구성, DB의 만료된 폐기 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation.cleanup-interval-ms:600000}")
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        revokedJtis.values().removeIf(expiresAt -> expiresAt < now);
+        // 폐기 시각 이후 토큰 수명이 지나면 이전 버전 토큰은 모두 만료됨
+        memberVersions.values().removeIf(revocation -> revocation.revokedAt() + tokenLifetimeMillis < now);
+
+        BloomFilter rebuilt = new BloomFilter(bloomBits);
+        revokedJtis.keySet().forEach(rebuilt::add);
+        bloom = rebuilt;
+        // 재구성 중에 추가된 jti도 다시 넣음
+        revokedJtis.keySet().forEach(rebuilt::add);
+
+        Integer deleted = transactionTemplate.execute(status -> revokedAccessTokenRepository.deleteExpired(LocalDateTime.now()));
+        log.debug("토큰 폐기 목록 정리: jti={}, 회원={}, DB 삭제={}", revokedJtis.size(), memberVersions.size(), deleted);
+    }
+
+    private void addJti(String jti, long expiresAt) {
+        revokedJtis.put(jti, expiresAt);
+        bloom.add(jti);
+    }
+
+    /**
+     * 고정 크기 블룸 필터 (해시 4개, double hashing)
+     */
+    private static final class BloomFilter {
+
+        private static final int HASHES = 4;
+
+        private final AtomicLongArray words;
+        private final int bits;
+
+        BloomFilter(int bits) {
+            this.bits = Math.max(64, bits);
+            this.words = new AtomicLongArray((this.bits + 63) / 64);
+        }
+
+        void add(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                long mask = 1L << (bit & 63);
+                int index = bit >>> 6;
+                long word;
+                do {
+                    word = words.get(index);
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(index, word, word | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
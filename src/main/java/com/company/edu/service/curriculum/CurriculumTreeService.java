@@ -0,0 +1,220 @@
+package com.company.edu.service.curriculum;
+
+import com.company.edu.dto.curriculum.CurriculumRow;
+import com.company.edu.dto.curriculum.CurriculumTree;
+import com.company.edu.dto.curriculum.MinorUnitProblemCount;
+import com.company.edu.entity.problem.Semesters;
+import com.company.edu.repository.ProblemRepository;
+import com.company.edu.repository.SemesterRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 교육과정 트리 인메모리 캐시
+ *
+ * 학기~소단원 전체를 한 번의 조회로 읽어 불변 스냅샷(트리 + ID/이름 인덱스 + 직렬화된 JSON)을 만들고 통째로 교체한다.
+ * 내용이 같으면 스냅샷을 바꾸지 않으므로 ETag도 유지된다.
+ * 단원은 거의 바뀌지 않지만 문제 수는 바뀌므로 refresh-interval-ms 주기로 다시 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CurriculumTreeService {
+
+    private final SemesterRepository semesterRepository;
+    private final ProblemRepository problemRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 트리 스냅샷 (불변)
+     */
+    public record Snapshot(CurriculumTree tree, byte[] json, String etag,
+                           Map<Integer, CurriculumTree.UnitNode> majorUnits,
+                           Map<Integer, CurriculumTree.UnitNode> middleUnits,
+                           Map<Integer, CurriculumTree.UnitNode> minorUnits,
+                           Map<String, List<String>> minorNamesBySemester,
+                           Map<String, List<String>> minorNamesByMajorName,
+                           Map<String, List<String>> minorNamesByMiddleName) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.curriculum.refresh-interval-ms:600000}",
+            initialDelayString = "${app.curriculum.refresh-interval-ms:600000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * 전체 재적재 (단원 변경 후 호출, 내용이 같으면 기존 스냅샷 유지)
+     */
+    public synchronized Snapshot reload() {
+        try {
+            long start = System.currentTimeMillis();
+            Snapshot next = build(semesterRepository.findCurriculumRows(), problemRepository.countProblemsByMinorUnit());
+
+            Snapshot current = snapshot;
+            if (current != null && current.etag().equals(next.etag())) {
+                return current;
+            }
+            snapshot = next;
+            log.info("교육과정 트리 적재 완료: 학기={}, 소단원={}, etag={}, 소요={}ms", next.tree().semesters().size(),
+                    next.minorUnits().size(), next.etag(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("교육과정 트리 적재 실패", e);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 현재 스냅샷 (아직 없으면 적재, 적재에 실패하면 null)
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 학기 소단원 이름 (isReady()일 때만 호출)
+     */
+    public List<String> minorUnitNamesBySemester(Semesters.GradeLevel gradeLevel, String semesterName) {
+        return lookup(snapshot.minorNamesBySemester(), semesterKey(gradeLevel, semesterName));
+    }
+
+    public List<String> minorUnitNamesByMajorUnit(String majorUnitName) {
+        return lookup(snapshot.minorNamesByMajorName(), majorUnitName);
+    }
+
+    public List<String> minorUnitNamesByMiddleUnit(String middleUnitName) {
+        return lookup(snapshot.minorNamesByMiddleName(), middleUnitName);
+    }
+
+    private static List<String> lookup(Map<String, List<String>> index, String key) {
+        return index.getOrDefault(key, List.of());
+    }
+
+    private static String semesterKey(Semesters.GradeLevel gradeLevel, String semesterName) {
+        return gradeLevel + ":" + semesterName;
+    }
+
+    private Snapshot build(List<CurriculumRow> rows, List<MinorUnitProblemCount> counts) throws JsonProcessingException {
+        Map<Integer, Long> problemCounts = new HashMap<>(counts.size() * 2);
+        for (MinorUnitProblemCount count : counts) {
+            if (count.getMinorUnitId() != null) {
+                problemCounts.put(count.getMinorUnitId(), count.getProblemCount());
+            }
+        }
+
+        // 정렬된 행을 순서대로 묶음
+        Map<Integer, CurriculumRow> semesterRows = new LinkedHashMap<>();
+        Map<Integer, Map<Integer, String>> majorsBySemester = new HashMap<>();
+        Map<Integer, Map<Integer, String>> middlesByMajor = new HashMap<>();
+        Map<Integer, Map<Integer, String>> minorsByMiddle = new HashMap<>();
+        for (CurriculumRow row : rows) {
+            semesterRows.putIfAbsent(row.getSemesterId(), row);
+            if (row.getMajorUnitId() != null) {
+                majorsBySemester.computeIfAbsent(row.getSemesterId(), k -> new LinkedHashMap<>())
+                        .putIfAbsent(row.getMajorUnitId(), row.getMajorUnitName());
+            }
+            if (row.getMiddleUnitId() != null) {
+                middlesByMajor.computeIfAbsent(row.getMajorUnitId(), k -> new LinkedHashMap<>())
+                        .putIfAbsent(row.getMiddleUnitId(), row.getMiddleUnitName());
+            }
+            if (row.getMinorUnitId() != null) {
+                minorsByMiddle.computeIfAbsent(row.getMiddleUnitId(), k -> new LinkedHashMap<>())
+                        .putIfAbsent(row.getMinorUnitId(), row.getMinorUnitName());
+            }
+        }
+
+        Map<Integer, CurriculumTree.UnitNode> majorIndex = new HashMap<>();
+        Map<Integer, CurriculumTree.UnitNode> middleIndex = new HashMap<>();
+        Map<Integer, CurriculumTree.UnitNode> minorIndex = new HashMap<>();
+        Map<String, List<String>> bySemester = new HashMap<>();
+        Map<String, List<String>> byMajorName = new HashMap<>();
+        Map<String, List<String>> byMiddleName = new HashMap<>();
+
+        List<CurriculumTree.SemesterNode> semesters = new ArrayList<>(semesterRows.size());
+        for (CurriculumRow semester : semesterRows.values()) {
+            List<String> semesterMinorNames = bySemester.computeIfAbsent(
+                    semesterKey(semester.getGradeLevel(), semester.getSemesterName()), k -> new ArrayList<>());
+            List<CurriculumTree.UnitNode> majors = new ArrayList<>();
+            long semesterCount = 0;
+
+            for (Map.Entry<Integer, String> major : majorsBySemester.getOrDefault(semester.getSemesterId(), Map.of()).entrySet()) {
+                List<String> majorMinorNames = byMajorName.computeIfAbsent(major.getValue(), k -> new ArrayList<>());
+                List<CurriculumTree.UnitNode> middles = new ArrayList<>();
+                long majorCount = 0;
+
+                for (Map.Entry<Integer, String> middle : middlesByMajor.getOrDefault(major.getKey(), Map.of()).entrySet()) {
+                    List<String> middleMinorNames = byMiddleName.computeIfAbsent(middle.getValue(), k -> new ArrayList<>());
+                    List<CurriculumTree.UnitNode> minors = new ArrayList<>();
+                    long middleCount = 0;
+
+                    for (Map.Entry<Integer, String> minor : minorsByMiddle.getOrDefault(middle.getKey(), Map.of()).entrySet()) {
+                        long count = problemCounts.getOrDefault(minor.getKey(), 0L);
+                        CurriculumTree.UnitNode minorNode = new CurriculumTree.UnitNode(minor.getKey(), minor.getValue(), count, List.of());
+                        minors.add(minorNode);
+                        minorIndex.put(minor.getKey(), minorNode);
+                        semesterMinorNames.add(minor.getValue());
+                        majorMinorNames.add(minor.getValue());
+                        middleMinorNames.add(minor.getValue());
+                        middleCount += count;
+                    }
+
+                    CurriculumTree.UnitNode middleNode = new CurriculumTree.UnitNode(middle.getKey(), middle.getValue(), middleCount, List.copyOf(minors));
+                    middles.add(middleNode);
+                    middleIndex.put(middle.getKey(), middleNode);
+                    majorCount += middleCount;
+                }
+
+                CurriculumTree.UnitNode majorNode = new CurriculumTree.UnitNode(major.getKey(), major.getValue(), majorCount, List.copyOf(middles));
+                majors.add(majorNode);
+                majorIndex.put(major.getKey(), majorNode);
+                semesterCount += majorCount;
+            }
+
+            semesters.add(new CurriculumTree.SemesterNode(semester.getSemesterId(), semester.getGradeLevel(),
+                    semester.getSemesterName(), semester.getSemesterCode(), semester.getCurriculumYear(),
+                    semester.getIsActive() != null && semester.getIsActive() != 0, semesterCount, List.copyOf(majors)));
+        }
+
+        CurriculumTree tree = new CurriculumTree(List.copyOf(semesters));
+        byte[] json = objectMapper.writeValueAsBytes(tree);
+        return new Snapshot(tree, json, etag(json), Map.copyOf(majorIndex), Map.copyOf(middleIndex), Map.copyOf(minorIndex),
+                immutable(bySemester), immutable(byMajorName), immutable(byMiddleName));
+    }
+
+    private static Map<String, List<String>> immutable(Map<String, List<String>> index) {
+        Map<String, List<String>> copy = new HashMap<>(index.size() * 2);
+        index.forEach((key, names) -> copy.put(key, List.copyOf(new LinkedHashSet<>(names))));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.edu.service.grading;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 주관식/객관식 답 정규화
+ *
+ * NFKC로 전각 숫자·기호와 원문자(①)를 일반 문자로 바꾸고 공백을 없앤다.
+ * 숫자로 읽히는 답(정수, 소수, 분수, 대분수, \frac{a}{b})은 기약분수 형태로 통일해서 1/2, 2/4, 0.5가 같은 답이 된다.
+ * 아주 긴 숫자는 10^scale, gcd 계산 비용이 커지므로 MAX_NUMBER_LENGTH를 넘으면 문자열 그대로 비교한다.
+ */
+final class AnswerNormalizer {
+
+    private static final int MAX_NUMBER_LENGTH = 40;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern DECIMAL = Pattern.compile("-?\\d+(\\.\\d+)?");
+    private static final Pattern FRACTION = Pattern.compile("(-?\\d+)/(-?\\d+)");
+    private static final Pattern MIXED = Pattern.compile("(-?\\d+)\\s+(\\d+)/(\\d+)");
+    private static final Pattern LATEX_FRACTION = Pattern.compile("(-?)\\\\d?frac\\{(-?\\d+)}\\{(-?\\d+)}");
+
+    private AnswerNormalizer() {
+    }
+
+    static String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        String text = Normalizer.normalize(raw, Normalizer.Form.NFKC)
+                .replace('−', '-') // 수학 기호 마이너스
+                .trim();
+
+        boolean numeric = text.length() <= MAX_NUMBER_LENGTH;
+
+        // 대분수는 공백이 의미가 있으므로 공백 제거 전에 처리
+        Matcher mixed = MIXED.matcher(text);
+        if (numeric && mixed.matches()) {
+            BigInteger whole = new BigInteger(mixed.group(1));
+            BigInteger numerator = new BigInteger(mixed.group(2));
+            BigInteger denominator = new BigInteger(mixed.group(3));
+            BigInteger signedNumerator = whole.abs().multiply(denominator).add(numerator);
+            String fraction = fraction(whole.signum() < 0 ? signedNumerator.negate() : signedNumerator, denominator);
+            if (fraction != null) {
+                return fraction;
+            }
+        }
+
+        String compact = WHITESPACE.matcher(text).replaceAll("").toLowerCase(Locale.ROOT);
+        String number = numeric ? canonicalNumber(compact) : null;
+        return number != null ? number : compact;
+    }
+
+    /**
+     * 객관식 답을 보기 번호로 (①, "3번", "３" 등), 읽을 수 없으면 null
+     */
+    static Integer optionNumber(String raw) {
+        String normalized = normalize(raw);
+        if (normalized.endsWith("번")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        try {
+            return Integer.valueOf(normalized);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String canonicalNumber(String text) {
+        if (DECIMAL.matcher(text).matches()) {
+            BigDecimal value = new BigDecimal(text);
+            if (value.scale() <= 0) {
+                return value.toBigInteger().toString();
+            }
+            return fraction(value.unscaledValue(), BigInteger.TEN.pow(value.scale()));
+        }
+
+        Matcher fraction = FRACTION.matcher(text);
+        if (fraction.matches()) {
+            return fraction(new BigInteger(fraction.group(1)), new BigInteger(fraction.group(2)));
+        }
+
+        Matcher latex = LATEX_FRACTION.matcher(text);
+        if (latex.matches()) {
+            BigInteger numerator = new BigInteger(latex.group(2));
+            return fraction(latex.group(1).isEmpty() ? numerator : numerator.negate(), new BigInteger(latex.group(3)));
+        }
+        return null;
+    }
+
+    private static String fraction(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() == 0) {
+            return null;
+        }
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        BigInteger gcd = numerator.gcd(denominator);
+        if (gcd.signum() != 0) {
+            numerator = numerator.divide(gcd);
+            denominator = denominator.divide(gcd);
+        }
+        return denominator.equals(BigInteger.ONE) ? numerator.toString() : numerator + "/" + denominator;
+    }
+}
@@ -0,0 +1,206 @@
+package com.company.edu.service.grading;
+
+import com.company.edu.common.code.error.WorksheetErrorCode;
+import com.company.edu.common.customException.RestApiException;
+import com.company.edu.dto.grading.AnswerKeyRow;
+import com.company.edu.dto.grading.GradingRequest;
+import com.company.edu.dto.grading.GradingResponse;
+import com.company.edu.entity.problem.Problem;
+import com.company.edu.entity.worksheet.Worksheet;
+import com.company.edu.repository.WorksheetProblemRepository;
+import com.company.edu.service.stats.ProblemStatsAggregator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학습지 자동 채점
+ *
+ * 학습지별 정답표를 한 번만 조회해서(대체 정답 JSON 파싱, 정규화 포함) 캐시하고, 답안지는 메모리에서만 채점한다.
+ * 정답표는 학습지 수정 시각이 바뀌거나 ttl-ms가 지나면 다시 읽는다.
+ * 채점 결과는 미응답/서술형을 빼고 ProblemStatsAggregator에 한 번에 넘긴다.
+ */
+@Service
+@Slf4j
+public class GradingService {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    private final WorksheetProblemRepository worksheetProblemRepository;
+    private final ProblemStatsAggregator problemStatsAggregator;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, AnswerKey> answerKeys = new ConcurrentHashMap<>();
+
+    @Value("${app.grading.answer-key.ttl-ms:600000}")
+    private long ttlMillis;
+
+    @Value("${app.grading.answer-key.max-entries:1000}")
+    private int maxEntries;
+
+    public GradingService(WorksheetProblemRepository worksheetProblemRepository,
+                          ProblemStatsAggregator problemStatsAggregator,
+                          ObjectMapper objectMapper) {
+        this.worksheetProblemRepository = worksheetProblemRepository;
+        this.problemStatsAggregator = problemStatsAggregator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 문제 하나의 정답
+     *
+     * @param correctOption 객관식 정답 번호
+     * @param accepted      주관식 허용 답 (정규화된 값)
+     * @param display       응답에 보여줄 정답
+     */
+    private record KeyEntry(Long problemId, Integer problemOrder, Problem.ProblemType type,
+                            Integer correctOption, Set<String> accepted, String display) {
+
+        boolean gradable() {
+            return type == Problem.ProblemType.객관식 ? correctOption != null : !accepted.isEmpty();
+        }
+    }
+
+    /**
+     * 학습지 정답표 (불변)
+     */
+    private record AnswerKey(LocalDateTime version, long loadedAt, List<KeyEntry> entries) {
+    }
+
+    /**
+     * 답안지 채점 (권한 확인은 호출하는 쪽에서)
+     */
+    public GradingResponse grade(Worksheet worksheet, GradingRequest request) {
+        if (!Boolean.TRUE.equals(worksheet.getAutoGrading())) {
+            throw new RestApiException(WorksheetErrorCode.AUTO_GRADING_DISABLED);
+        }
+
+        AnswerKey answerKey = answerKey(worksheet);
+
+        Map<Long, String> submitted = new HashMap<>(request.answers().size() * 2);
+        for (GradingRequest.SubmittedAnswer answer : request.answers()) {
+            submitted.put(answer.problemId(), answer.answer());
+        }
+
+        List<GradingResponse.ProblemResult> results = new ArrayList<>(answerKey.entries().size());
+        Map<Long, Boolean> attempts = new HashMap<>(answerKey.entries().size() * 2);
+        int gradable = 0;
+        int correct = 0;
+
+        for (KeyEntry entry : answerKey.entries()) {
+            GradingResponse.Status status;
+            String answer = submitted.get(entry.problemId());
+
+            if (!entry.gradable()) {
+                status = GradingResponse.Status.UNGRADED;
+            } else {
+                gradable++;
+                if (answer == null || answer.isBlank()) {
+                    status = GradingResponse.Status.UNANSWERED;
+                } else {
+                    boolean isCorrect = isCorrect(entry, answer);
+                    status = isCorrect ? GradingResponse.Status.CORRECT : GradingResponse.Status.WRONG;
+                    attempts.put(entry.problemId(), isCorrect);
+                    if (isCorrect) {
+                        correct++;
+                    }
+                }
+            }
+
+            results.add(new GradingResponse.ProblemResult(entry.problemId(), entry.problemOrder(), status,
+                    status == GradingResponse.Status.UNGRADED ? null : entry.display()));
+        }
+
+        problemStatsAggregator.recordAll(attempts);
+
+        int score = gradable == 0 ? 0 : Math.round(100f * correct / gradable);
+        return new GradingResponse(worksheet.getWorksheetId(), results.size(), gradable, correct, score, results);
+    }
+
+    private static boolean isCorrect(KeyEntry entry, String answer) {
+        if (entry.type() == Problem.ProblemType.객관식) {
+            return entry.correctOption().equals(AnswerNormalizer.optionNumber(answer));
+        }
+        return entry.accepted().contains(AnswerNormalizer.normalize(answer));
+    }
+
+    /**
+     * 캐시된 정답표 (조회는 맵 잠금 밖에서 하고, 그 사이 더 새로 적재된 정답표가 있으면 그것을 씀)
+     */
+    private AnswerKey answerKey(Worksheet worksheet) {
+        long now = System.currentTimeMillis();
+        AnswerKey cached = answerKeys.get(worksheet.getWorksheetId());
+        if (isFresh(cached, worksheet, now)) {
+            return cached;
+        }
+
+        if (answerKeys.size() >= maxEntries) {
+            answerKeys.values().removeIf(key -> key.loadedAt() + ttlMillis < now);
+            if (answerKeys.size() >= maxEntries) {
+                answerKeys.clear();
+            }
+        }
+
+        AnswerKey loaded = loadAnswerKey(worksheet, now);
+        return answerKeys.merge(worksheet.getWorksheetId(), loaded,
+                (current, next) -> isFresh(current, worksheet, now) ? current : next);
+    }
+
+    private boolean isFresh(AnswerKey key, Worksheet worksheet, long now) {
+        return key != null && Objects.equals(key.version(), worksheet.getUpdatedAt()) && key.loadedAt() + ttlMillis >= now;
+    }
+
+    private AnswerKey loadAnswerKey(Worksheet worksheet, long now) {
+        List<AnswerKeyRow> rows = worksheetProblemRepository.findAnswerKeyRows(worksheet.getWorksheetId());
+        List<KeyEntry> entries = new ArrayList<>(rows.size());
+        for (AnswerKeyRow row : rows) {
+            entries.add(toEntry(row));
+        }
+        log.debug("정답표 적재: worksheetId={}, 문제={}", worksheet.getWorksheetId(), entries.size());
+        return new AnswerKey(worksheet.getUpdatedAt(), now, List.copyOf(entries));
+    }
+
+    private KeyEntry toEntry(AnswerKeyRow row) {
+        if (row.problemType() == Problem.ProblemType.객관식) {
+            String display = row.correctOptionNumber() != null ? String.valueOf(row.correctOptionNumber()) : null;
+            return new KeyEntry(row.problemId(), row.problemOrder(), row.problemType(), row.correctOptionNumber(), Set.of(), display);
+        }
+        if (row.problemType() == Problem.ProblemType.서술형) {
+            return new KeyEntry(row.problemId(), row.problemOrder(), row.problemType(), null, Set.of(), row.correctAnswer());
+        }
+
+        Set<String> accepted = new HashSet<>();
+        if (row.correctAnswer() != null && !row.correctAnswer().isBlank()) {
+            accepted.add(AnswerNormalizer.normalize(row.correctAnswer()));
+        }
+        for (String alternative : parseAlternatives(row)) {
+            if (alternative != null && !alternative.isBlank()) {
+                accepted.add(AnswerNormalizer.normalize(alternative));
+            }
+        }
+        return new KeyEntry(row.problemId(), row.problemOrder(), row.problemType(), null, Set.copyOf(accepted), row.correctAnswer());
+    }
+
+    /**
+     * 대체 정답 JSON 배열 파싱 (배열이 아니면 문자열 하나로 취급)
+     */
+    private List<String> parseAlternatives(AnswerKeyRow row) {
+        String json = row.alternativeAnswers();
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, STRING_LIST);
+        } catch (Exception e) {
+            log.warn("대체 정답 형식 오류, 문자열로 사용: problemId={}", row.problemId());
+            return List.of(json);
+        }
+    }
+}
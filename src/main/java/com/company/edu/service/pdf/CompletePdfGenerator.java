@@ -1,49 +1,75 @@
 package com.company.edu.service.pdf;
 
+import com.company.edu.dto.pdf.RenderProblem;
+import com.company.edu.dto.pdf.WorksheetRenderModel;
 import com.company.edu.entity.problem.Problem;
-import com.company.edu.entity.worksheet.Worksheet;
-import com.company.edu.entity.worksheet.WorksheetProblem;
-import com.company.edu.service.pdf.ImagePathService;
-import com.itextpdf.io.font.FontProgram;
-import com.itextpdf.io.font.FontProgramFactory;
-import com.itextpdf.io.font.PdfEncodings;
-import com.itextpdf.io.font.constants.StandardFonts;
-import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.company.edu.service.pdf.layout.GreedyLayoutStrategy;
+import com.company.edu.service.pdf.layout.PdfLayoutStrategy;
+import com.itextpdf.io.image.ImageData;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.CompressionConstants;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.WriterProperties;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.pdf.canvas.draw.SolidLine;
+import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.borders.SolidBorder;
 import com.itextpdf.layout.element.*;
 import com.itextpdf.layout.properties.AreaBreakType;
-import com.itextpdf.layout.properties.BorderRadius;
 import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.UnitValue;
+import com.itextpdf.layout.properties.VerticalAlignment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+/**
+ * 학습지 PDF 생성
+ *
+ * 2단 레이아웃 계획(문제별 페이지/컬럼/위치)은 학습지 문제 구성마다 한 번만 계산해 캐시하고,
+ * 문제지/시험지/빠른정답/해설지는 같은 계획 위에 각자 필요한 내용만 그린다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CompletePdfGenerator {
 
     private final ImagePathService imagePathService;
+    private final ImagePrefetcher imagePrefetcher;
+    private final PdfFontRegistry fontRegistry;
+    private final List<PdfLayoutStrategy> layoutStrategies;
+
+    @Value("${app.pdf.layout.strategy:" + GreedyLayoutStrategy.NAME + "}")
+    private String layoutStrategyName;
+
+    @Value("${app.pdf.layout-cache.max-entries:500}")
+    private int layoutCacheMaxEntries;
+
+    // 레이아웃 계획 캐시 (접근 순서 LRU, 자기 자신으로 동기화)
+    private final Map<String, LayoutPlan> layoutPlans = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LayoutPlan> eldest) {
+            return size() > layoutCacheMaxEntries;
+        }
+    };
 
-    // 폰트 캐시 (성능 향상)
-    private static FontProgram cachedRegularFontProgram;
-    private static FontProgram cachedBoldFontProgram;
 
     // PDF 레이아웃 상수
     private static final float PAGE_WIDTH = PageSize.A4.getWidth();
@@ -57,200 +83,479 @@ public class CompletePdfGenerator {
     private static final float PROBLEM_NUMBER_HEIGHT = 25f;
     private static final float ANSWER_HEIGHT = 20f;
     private static final float PROBLEM_SPACING = 15f;
+    private static final float EMPTY_IMAGE_HEIGHT = 60f;
+
+    // 첫 페이지는 전체 헤더 아래(헤더가 대략 150px 차지), 이후 페이지는 간소화 헤더 아래부터 배치
+    private static final PdfLayoutStrategy.PageFrame PAGE_FRAME =
+            new PdfLayoutStrategy.PageFrame(PAGE_HEIGHT - MARGIN - 150, USABLE_HEIGHT, 0);
+
+    private static final int ANSWER_GRID_COLUMNS = 5;
+
+    /**
+     * 렌더링 진행 상황 (배치한 문제 수 / 전체)
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        ProgressListener NONE = (placed, total) -> { };
+
+        void onProgress(int placed, int total);
+    }
+
+    /**
+     * 문제 한 개의 배치 위치 (top은 페이지 좌표, 문제 블록의 윗변)
+     */
+    private record Slot(int page, int column, float top,
+                        float imageWidth, float imageHeight, boolean imageExpected) {
+
+        float x() {
+            return column == PdfLayoutStrategy.LEFT ? MARGIN : MARGIN + COLUMN_WIDTH + COLUMN_GAP;
+        }
+    }
+
+    /**
+     * 학습지 전체 레이아웃 계획 (문제 순서와 같은 순서의 슬롯)
+     */
+    private record LayoutPlan(List<Slot> slots, int pageCount) {
+    }
 
     /**
      * 문제지 PDF 생성 (문제 + 정답)
      */
-    @Transactional
-    public byte[] generateProblemWithAnswerPdf(Worksheet worksheet, List<WorksheetProblem> problems) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(baos);
-            PdfDocument pdfDoc = new PdfDocument(writer);
-            Document document = new Document(pdfDoc, PageSize.A4);
+    public byte[] generateProblemWithAnswerPdf(WorksheetRenderModel worksheet) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writePdf(worksheet, PdfVariant.PROBLEM_WITH_ANSWER, out, ProgressListener.NONE);
+        return out.toByteArray();
+    }
 
-            document.setMargins(MARGIN, MARGIN, MARGIN, MARGIN);
+    /**
+     * PDF를 스트림에 바로 기록 (문서 전체를 메모리에 들고 있지 않음)
+     * 전달받은 스트림은 닫지 않는다.
+     */
+    public void writePdf(WorksheetRenderModel worksheet, PdfVariant variant, OutputStream out, ProgressListener progress) {
+        writePdf(worksheet, variant, layoutStrategy(layoutStrategyName), out, progress);
+    }
 
-            PdfFont regularFont = createKoreanFont();
+    /**
+     * 배치 전략을 지정해 PDF 기록 (벤치마크용)
+     */
+    public void writePdf(WorksheetRenderModel worksheet, PdfVariant variant, PdfLayoutStrategy strategy,
+                         OutputStream out, ProgressListener progress) {
+        List<RenderProblem> problems = worksheet.getProblems();
+        WriterProperties writerProperties = new WriterProperties()
+                .setFullCompressionMode(true)
+                .setCompressionLevel(CompressionConstants.BEST_COMPRESSION);
+
+        PdfWriter writer = new PdfWriter(out, writerProperties);
+        writer.setSmartMode(true);
+        writer.setCloseStream(false);
+
+        String planKey = layoutPlanKey(problems, strategy);
+        LayoutPlan plan = cachedLayoutPlan(planKey);
+
+        // 이미지는 그리는 종류이거나, 계획을 새로 세우는데 저장된 크기가 없는 문제만 미리 읽음
+        List<String> imageFileNames = new ArrayList<>(problems.size());
+        for (RenderProblem problem : problems) {
+            boolean needed = variant.isDrawsImages() || (plan == null && !problem.hasImageDimensions());
+            imageFileNames.add(needed ? problem.getImageUrl() : null);
+        }
 
-//            cachedRegularFont = null;
-            PdfFont boldFont = createKoreanBoldFont();
-//            cachedBoldFont = null;
+        // 위치 지정으로 그리는 문서는 바로 내보내고, 흐름 배치 문서는 마지막에 쪽 번호를 넣기 위해 붙잡아 둠
+        boolean immediateFlush = variant.isDrawsImages();
 
-            // 동적 레이아웃 매니저 생성
-            ImageLayoutManager layoutManager = new ImageLayoutManager(
-                    document, worksheet, regularFont, boldFont, imagePathService
-            );
+        try (ImagePrefetcher.Batch images = imagePrefetcher.prefetch(imageFileNames);
+             Document document = new Document(new PdfDocument(writer), PageSize.A4, immediateFlush)) {
+            document.setMargins(MARGIN, MARGIN, MARGIN, MARGIN);
 
-            // 문제들을 동적으로 배치
-            layoutManager.layoutProblemsWithAnswers(problems);
+            if (plan == null) {
+                plan = planLayout(problems, images, strategy);
+                cacheLayoutPlan(planKey, plan);
+            }
+
+            PdfFont regularFont = fontRegistry.createRegularFont();
+            PdfFont boldFont = fontRegistry.createBoldFont();
 
-            document.close();
-            return baos.toByteArray();
+            switch (variant) {
+                case PROBLEM_WITH_ANSWER, PROBLEM_ONLY -> new ImageLayoutManager(
+                        document, worksheet, regularFont, boldFont, images, plan,
+                        variant == PdfVariant.PROBLEM_WITH_ANSWER, progress
+                ).layoutProblems(problems);
+                case ANSWER_GRID -> writeAnswerGrid(document, worksheet, plan, regularFont, boldFont, progress);
+                case SOLUTION -> writeSolutions(document, worksheet, plan, regularFont, boldFont, progress);
+            }
 
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("PDF 생성 실패", e);
+            log.error("PDF 생성 실패: variant={}", variant, e);
             throw new RuntimeException("PDF 생성 실패", e);
         }
     }
 
     /**
-     * 이미지 기반 동적 레이아웃 매니저
+     * 이름으로 배치 전략 조회 (없으면 기본 배치)
      */
-    private static class ImageLayoutManager {
-        private final Document document;
-        private final Worksheet worksheet;
-        private final PdfFont regularFont;
-        private final PdfFont boldFont;
-        private final ImagePathService imagePathService;
+    public PdfLayoutStrategy layoutStrategy(String name) {
+        PdfLayoutStrategy fallback = null;
+        for (PdfLayoutStrategy strategy : layoutStrategies) {
+            if (strategy.getName().equals(name)) {
+                return strategy;
+            }
+            if (GreedyLayoutStrategy.NAME.equals(strategy.getName())) {
+                fallback = strategy;
+            }
+        }
+        log.warn("알 수 없는 PDF 배치 전략, 기본 배치 사용: {}", name);
+        return fallback;
+    }
 
-        // 현재 페이지 상태
-        private int currentPage = 1;
-        private float leftColumnY = USABLE_HEIGHT;
-        private float rightColumnY = USABLE_HEIGHT;
-        private boolean isFirstPage = true;
+    public List<PdfLayoutStrategy> getLayoutStrategies() {
+        return layoutStrategies;
+    }
 
-        public ImageLayoutManager(Document document, Worksheet worksheet,
-                                  PdfFont regularFont, PdfFont boldFont,
-                                  ImagePathService imagePathService) {
-            this.document = document;
-            this.worksheet = worksheet;
-            this.regularFont = regularFont;
-            this.boldFont = boldFont;
-            this.imagePathService = imagePathService;
+    /**
+     * 레이아웃 계획 키 (배치에 영향을 주는 값: 배치 전략, 문제 순서, 이미지 경로와 크기)
+     */
+    private static String layoutPlanKey(List<RenderProblem> problems, PdfLayoutStrategy strategy) {
+        StringBuilder key = new StringBuilder(problems.size() * 32).append(strategy.getName()).append('|');
+        for (RenderProblem problem : problems) {
+            key.append(problem.getProblemId()).append(':')
+                    .append(problem.getProblemOrder()).append(':')
+                    .append(problem.getImagePath()).append(':')
+                    .append(problem.getImageWidth()).append('x')
+                    .append(problem.getImageHeight()).append(',');
+        }
+        return key.toString();
+    }
 
-            // 첫 페이지는 헤더 공간을 고려하여 시작 위치를 낮게 설정
-            // 헤더가 대략 150px 정도 차지한다고 가정
-            this.leftColumnY = USABLE_HEIGHT - 150;
-            this.rightColumnY = USABLE_HEIGHT - 150;
+    private LayoutPlan cachedLayoutPlan(String key) {
+        synchronized (layoutPlans) {
+            return layoutPlans.get(key);
+        }
+    }
 
+    private void cacheLayoutPlan(String key, LayoutPlan plan) {
+        synchronized (layoutPlans) {
+            layoutPlans.put(key, plan);
         }
+    }
 
-        /**
-         * 문제와 정답을 함께 배치
-         */
-        public void layoutProblemsWithAnswers(List<WorksheetProblem> problems) {
-            // 첫 페이지 헤더 생성
-            createPageHeader();
+    /**
+     * 2단 레이아웃 계획 (크기 계산만 하고 그리지 않음)
+     * 저장된 이미지 크기가 있으면 산술 계산만 하고, 없으면 미리 읽은 이미지로 구한다.
+     */
+    private LayoutPlan planLayout(List<RenderProblem> problems, ImagePrefetcher.Batch images, PdfLayoutStrategy strategy) {
+        int size = problems.size();
+        float[] imageWidths = new float[size];
+        float[] imageHeights = new float[size];
+        boolean[] imageExpected = new boolean[size];
+        List<PdfLayoutStrategy.Block> blocks = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            RenderProblem problem = problems.get(i);
+
+            // 1. 문제 이미지 크기
+            if (problem.getImagePath() != null && problem.hasImageDimensions()) {
+                float[] scaled = imagePathService.scaleToColumn(problem.getImageWidth(), problem.getImageHeight());
+                imageWidths[i] = scaled[0];
+                imageHeights[i] = scaled[1];
+                imageExpected[i] = true;
+            } else {
+                ImagePathService.ImageInfo questionImage = images.get(i);
+                imageExpected[i] = questionImage.imageData != null;
+                imageWidths[i] = imageExpected[i] ? questionImage.width : COLUMN_WIDTH - 10;
+                imageHeights[i] = imageExpected[i] ? questionImage.height : EMPTY_IMAGE_HEIGHT;
+            }
 
-            for (WorksheetProblem worksheetProblem : problems) {
-                Problem problem = worksheetProblem.getProblem();
+            // 2. 블록 높이 (판단용 높이와 실제 차지하는 높이)
+            blocks.add(new PdfLayoutStrategy.Block(
+                    calculateTotalRequiredHeight(imageHeights[i]),
+                    blockHeight(imageHeights[i]) + PROBLEM_SPACING));
+        }
 
-                // 1. 문제 이미지 정보 가져오기
-                ProblemImageInfo problemImageInfo = getProblemImageInfo(problem);
+        // 3. 배치 위치 결정
+        List<PdfLayoutStrategy.Placement> placements = strategy.place(blocks, PAGE_FRAME);
 
-                // 2. 전체 문제 블록에 필요한 높이 계산
-                float requiredHeight = calculateTotalRequiredHeight(worksheetProblem, problemImageInfo);
+        List<Slot> slots = new ArrayList<>(size);
+        int pageCount = 0;
+        for (int i = 0; i < size; i++) {
+            PdfLayoutStrategy.Placement placement = placements.get(i);
+            slots.add(new Slot(placement.page(), placement.column(), placement.top(),
+                    imageWidths[i], imageHeights[i], imageExpected[i]));
+            pageCount = Math.max(pageCount, placement.page());
+        }
 
-                // 3. 배치 위치 결정 (스마트 레이아웃)
-                ColumnPosition position = determineOptimalPosition(requiredHeight);
+        log.debug("레이아웃 계획: 전략={}, 문제 {}개, {}페이지", strategy.getName(), size, pageCount);
+        return new LayoutPlan(List.copyOf(slots), Math.max(pageCount, 1));
+    }
 
-                // 4. 필요시 새 페이지 생성
-                if (position == ColumnPosition.NEW_PAGE) {
-                    createNewPage();
-                    position = ColumnPosition.LEFT; // 새 페이지에서는 왼쪽부터
-                }
+    /**
+     * 문제 블록 전체 높이 계산 (배치 가능 여부 판단용)
+     */
+    private static float calculateTotalRequiredHeight(float imageHeight) {
+        // 문제 번호 + 이미지 + 문제와 정답 사이 간격 + 정답 + 문제 간 간격
+        return PROBLEM_NUMBER_HEIGHT + imageHeight + 10f + ANSWER_HEIGHT + PROBLEM_SPACING;
+    }
 
-                // 5. 문제 블록 전체 배치
-                placeProblemBlock(worksheetProblem, problemImageInfo, position);
+    /**
+     * 실제로 그려지는 블록 높이 (번호/이미지/정답 각각 5px 간격)
+     */
+    private static float blockHeight(float imageHeight) {
+        return PROBLEM_NUMBER_HEIGHT + 5 + imageHeight + 5 + ANSWER_HEIGHT + 5;
+    }
+
+    /**
+     * 빠른 정답 (번호별 정답 표, 문제지 쪽수 표시)
+     */
+    private void writeAnswerGrid(Document document, WorksheetRenderModel worksheet, LayoutPlan plan,
+                                 PdfFont regularFont, PdfFont boldFont, ProgressListener progress) {
+        List<RenderProblem> problems = worksheet.getProblems();
+        addVariantTitle(document, worksheet, "빠른 정답", regularFont, boldFont);
+
+        Table table = new Table(UnitValue.createPercentArray(ANSWER_GRID_COLUMNS)).useAllAvailableWidth();
+        for (int i = 0; i < problems.size(); i++) {
+            checkInterrupted();
+            RenderProblem problem = problems.get(i);
+
+            Cell cell = new Cell()
+                    .setBorder(new SolidBorder(ColorConstants.LIGHT_GRAY, 0.5f))
+                    .setPadding(4);
+            cell.add(new Paragraph(String.format("%02d", problem.getProblemOrder()))
+                    .setFont(boldFont).setFontSize(11).setFontColor(DeviceRgb.RED).setMargin(0));
+            cell.add(new Paragraph(answerText(problem, 30))
+                    .setFont(regularFont).setFontSize(10).setMargin(0));
+            cell.add(new Paragraph("p." + plan.slots().get(i).page())
+                    .setFont(regularFont).setFontSize(7).setFontColor(ColorConstants.GRAY)
+                    .setTextAlignment(TextAlignment.RIGHT).setMargin(0));
+            table.addCell(cell);
+            progress.onProgress(i + 1, problems.size());
+        }
+
+        // 마지막 줄 빈칸 채우기
+        int remainder = problems.size() % ANSWER_GRID_COLUMNS;
+        for (int i = 0; remainder > 0 && i < ANSWER_GRID_COLUMNS - remainder; i++) {
+            table.addCell(new Cell().setBorder(Border.NO_BORDER));
+        }
+
+        document.add(table);
+        addFlowPageNumbers(document, regularFont);
+    }
+
+    /**
+     * 해설지 (문제 순서대로 정답/힌트/풀이, 문제지 쪽수 표시)
+     */
+    private void writeSolutions(Document document, WorksheetRenderModel worksheet, LayoutPlan plan,
+                                PdfFont regularFont, PdfFont boldFont, ProgressListener progress) {
+        List<RenderProblem> problems = worksheet.getProblems();
+        addVariantTitle(document, worksheet, "해설", regularFont, boldFont);
+
+        for (int i = 0; i < problems.size(); i++) {
+            checkInterrupted();
+            RenderProblem problem = problems.get(i);
+
+            Div block = new Div()
+                    .setKeepTogether(true)
+                    .setMarginBottom(PROBLEM_SPACING)
+                    .setPaddingBottom(6)
+                    .setBorderBottom(new SolidBorder(ColorConstants.LIGHT_GRAY, 0.5f));
+
+            Paragraph heading = new Paragraph()
+                    .add(new Text(String.format("%02d", problem.getProblemOrder()))
+                            .setFont(boldFont).setFontSize(14).setFontColor(DeviceRgb.RED))
+                    .add(new Text("   문제지 " + plan.slots().get(i).page() + "쪽")
+                            .setFont(regularFont).setFontSize(8).setFontColor(ColorConstants.GRAY))
+                    .setMarginBottom(2);
+            block.add(heading);
+
+            String label = problem.getProblemType() == Problem.ProblemType.객관식 ? "정답: " : "풀이: ";
+            block.add(new Paragraph(label + answerText(problem, Integer.MAX_VALUE))
+                    .setFont(regularFont).setFontSize(10).setFontColor(DeviceRgb.BLUE).setMargin(0));
+
+            if (problem.getHint() != null && !problem.getHint().isBlank()) {
+                block.add(new Paragraph("힌트: " + problem.getHint())
+                        .setFont(regularFont).setFontSize(10).setMarginTop(2).setMarginBottom(0));
             }
 
-            // 마지막 페이지 번호 추가
-            addPageNumber();
+            document.add(block);
+            progress.onProgress(i + 1, problems.size());
         }
 
-        /**
-         * 문제 이미지 정보 수집
-         */
-        private ProblemImageInfo getProblemImageInfo(Problem problem) {
-            // 문제 이미지 정보
-            ImagePathService.ImageInfo questionImage = imagePathService.getImageInfo(problem.getImageUrl());
+        addFlowPageNumbers(document, regularFont);
+    }
 
-            return new ProblemImageInfo(questionImage);
+    /**
+     * 빠른정답/해설지 상단 제목
+     */
+    private static void addVariantTitle(Document document, WorksheetRenderModel worksheet, String title,
+                                        PdfFont regularFont, PdfFont boldFont) {
+        Table titleTable = new Table(1).useAllAvailableWidth().setMarginBottom(6);
+        titleTable.addCell(new Cell()
+                .setBorder(Border.NO_BORDER)
+                .setBackgroundColor(new DeviceRgb(220, 220, 220)) // 연한 회색
+                .setPadding(8)
+                .setTextAlignment(TextAlignment.CENTER)
+                .add(new Paragraph(title).setFont(boldFont).setFontSize(16).setFontColor(ColorConstants.BLACK)));
+        document.add(titleTable);
+
+        String range = worksheet.getContentRange() != null ? worksheet.getContentRange() : "";
+        document.add(new Paragraph(range + "  ·  " + worksheet.getProblemCount() + "문제")
+                .setFont(regularFont).setFontSize(10)
+                .setTextAlignment(TextAlignment.RIGHT)
+                .setMarginBottom(10));
+    }
+
+    /**
+     * 흐름 배치 문서의 쪽 번호 (immediateFlush=false 문서에서만 가능)
+     */
+    private static void addFlowPageNumbers(Document document, PdfFont regularFont) {
+        int pages = document.getPdfDocument().getNumberOfPages();
+        for (int page = 1; page <= pages; page++) {
+            document.showTextAligned(new Paragraph(String.valueOf(page)).setFont(regularFont).setFontSize(10),
+                    PAGE_WIDTH / 2, 15, page, TextAlignment.CENTER, VerticalAlignment.BOTTOM, 0);
         }
+    }
 
-        /**
-         * 문제 블록 전체 높이 계산
-         */
-        private float calculateTotalRequiredHeight(WorksheetProblem worksheetProblem,
-                                                   ProblemImageInfo imageInfo) {
-            float totalHeight = 0;
+    /**
+     * 클라이언트 연결 종료 등으로 중단되면 남은 렌더링을 멈춤
+     */
+    private static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("PDF 렌더링 중단");
+        }
+    }
 
-            // 1. 문제 번호 영역
-            totalHeight += PROBLEM_NUMBER_HEIGHT;
+    /**
+     * 정답 텍스트 (maxLength보다 긴 주관식/서술형 답안은 줄임)
+     */
+    private static String answerText(RenderProblem problem, int maxLength) {
+        if (problem.getProblemType() == Problem.ProblemType.객관식) {
+            // 객관식: 선택지 번호
+            return extractCorrectChoice(problem.getSolution());
+        }
 
-            // 2. 문제 이미지 높이
-            totalHeight += imageInfo.questionImage.height;
+        // 주관식/서술형: 답안 텍스트
+        String answerText = problem.getSolution();
+        if (answerText == null || answerText.isEmpty()) {
+            return "답안 정보 없음";
+        }
+        if (answerText.length() > maxLength) {
+            return answerText.substring(0, maxLength - 3) + "...";
+        }
+        return answerText;
+    }
 
-            // 3. 문제와 정답 사이 간격
-            totalHeight += 10f;
+    /**
+     * 객관식 정답 추출
+     */
+    private static String extractCorrectChoice(String answerText) {
+        if (answerText == null || answerText.isEmpty()) {
+            return "정답 없음";
+        }
 
-            // 4. 정답 영역 높이
-            totalHeight += ANSWER_HEIGHT;
+        // 정답이 "3" 또는 "③" 형태로 저장된 경우 처리
+        try {
+            // 숫자인 경우
+            int choiceNum = Integer.parseInt(answerText.trim());
+            return "③ " + choiceNum + "번";
+        } catch (NumberFormatException e) {
+            // 기호인 경우 그대로 반환
+            return answerText.trim();
+        }
+    }
 
-            // 5. 문제 간 간격
-            totalHeight += PROBLEM_SPACING;
+    /**
+     * 레이아웃 계획대로 문제 블록을 그리는 매니저 (문제지/시험지)
+     */
+    private static class ImageLayoutManager {
+        private final Document document;
+        private final WorksheetRenderModel worksheet;
+        private final PdfFont regularFont;
+        private final PdfFont boldFont;
+        private final ImagePrefetcher.Batch images;
+        private final LayoutPlan plan;
+        private final boolean showAnswers;
+        private final ProgressListener progress;
 
-            return totalHeight;
+        // 같은 이미지는 문서 안에서 XObject 하나를 공유 (ImageData는 캐시에서 같은 인스턴스로 옴)
+        private final Map<ImageData, PdfImageXObject> imageXObjects = new IdentityHashMap<>();
+
+        // 현재 페이지 상태
+        private int currentPage = 1;
+        private boolean isFirstPage = true;
+
+        public ImageLayoutManager(Document document, WorksheetRenderModel worksheet,
+                                  PdfFont regularFont, PdfFont boldFont,
+                                  ImagePrefetcher.Batch images, LayoutPlan plan,
+                                  boolean showAnswers, ProgressListener progress) {
+            this.document = document;
+            this.worksheet = worksheet;
+            this.regularFont = regularFont;
+            this.boldFont = boldFont;
+            this.images = images;
+            this.plan = plan;
+            this.showAnswers = showAnswers;
+            this.progress = progress;
         }
 
         /**
-         * 최적 배치 위치 결정 (스마트 레이아웃)
+         * 계획된 위치에 문제(와 정답)를 배치
          */
-        private ColumnPosition determineOptimalPosition(float requiredHeight) {
-            // 1. 왼쪽 컬럼에 충분한 공간이 있는지 확인
-            if (leftColumnY >= requiredHeight) {
-                return ColumnPosition.LEFT;
+        public void layoutProblems(List<RenderProblem> problems) {
+            // 첫 페이지 헤더 생성
+            createPageHeader();
+
+            // 배치 전략에 따라 뒤 문제가 앞 페이지에 들어갈 수 있으므로 페이지 순서로 그림
+            List<Integer> drawOrder = new ArrayList<>(problems.size());
+            for (int i = 0; i < problems.size(); i++) {
+                drawOrder.add(i);
             }
+            drawOrder.sort(Comparator.comparingInt(i -> plan.slots().get(i).page()));
 
-            // 2. 오른쪽 컬럼에 충분한 공간이 있는지 확인
-            if (rightColumnY >= requiredHeight) {
-                return ColumnPosition.RIGHT;
+            int placed = 0;
+            for (int i : drawOrder) {
+                checkInterrupted();
+
+                Slot slot = plan.slots().get(i);
+
+                // 필요시 새 페이지 생성
+                while (currentPage < slot.page()) {
+                    createNewPage();
+                }
+
+                // 문제 블록 전체 배치 (이미지는 이 시점에 로딩)
+                placeProblemBlock(problems.get(i), i, slot);
+                progress.onProgress(++placed, problems.size());
             }
 
-            // 3. 둘 다 부족하면 새 페이지 필요
-            return ColumnPosition.NEW_PAGE;
+            // 마지막 페이지 번호 추가
+            addPageNumber();
         }
 
         /**
          * 문제 블록 전체 배치
          */
-        private void placeProblemBlock(WorksheetProblem worksheetProblem,
-                                  ProblemImageInfo imageInfo, ColumnPosition position) {
-
-            // 배치 시작 위치 계산
-            float xPosition = (position == ColumnPosition.LEFT) ?
-                    MARGIN : MARGIN + COLUMN_WIDTH + COLUMN_GAP;
-
-            float startY = (position == ColumnPosition.LEFT) ? leftColumnY : rightColumnY;
-            float currentY = startY;
-
-            Problem problem = worksheetProblem.getProblem();
+        private void placeProblemBlock(RenderProblem worksheetProblem, int index, Slot slot) {
+            float xPosition = slot.x();
+            float currentY = slot.top();
 
             // 1. 문제 번호 배치
             currentY = placeProblemNumber(worksheetProblem, xPosition, currentY);
 
             // 2. 문제 이미지 배치
-            currentY = placeProblemImage(imageInfo.questionImage, xPosition, currentY);
-
-            // 3. 정답 배치
-            currentY = placeAnswer(problem, xPosition, currentY);
+            currentY = placeProblemImage(index, slot, xPosition, currentY);
 
-            // 4. 사용한 높이만큼 컬럼 Y 위치 업데이트
-            float usedHeight = startY - currentY + PROBLEM_SPACING;
-            if (position == ColumnPosition.LEFT) {
-                leftColumnY = currentY - PROBLEM_SPACING;
-            } else {
-                rightColumnY = currentY - PROBLEM_SPACING;
+            // 3. 정답 배치 (시험지는 같은 자리를 비워 둠)
+            if (showAnswers) {
+                placeAnswer(worksheetProblem, xPosition, currentY);
             }
 
-            log.debug("문제 {} 배치 완료: 위치={}, 사용높이={}",
-                    worksheetProblem.getProblemOrder(), position, usedHeight);
+            log.debug("문제 {} 배치 완료: 페이지={}, 컬럼={}",
+                    worksheetProblem.getProblemOrder(), slot.page(), slot.column());
         }
 
         /**
          * 문제 번호 배치
          */
-        private float placeProblemNumber(WorksheetProblem worksheetProblem, float x, float y) {
+        private float placeProblemNumber(RenderProblem worksheetProblem, float x, float y) {
             // 문제 번호 스타일
             Paragraph problemNumber = new Paragraph(String.format("%02d", worksheetProblem.getProblemOrder()))
                     .setFont(boldFont)
@@ -266,27 +571,28 @@ public class CompletePdfGenerator {
         }
 
         /**
-         * 문제 이미지 배치
+         * 문제 이미지 배치 (계획된 크기 그대로, 이미지가 없으면 같은 높이의 빈 박스)
          */
-        private float placeProblemImage(ImagePathService.ImageInfo imageInfo, float x, float y) {
-            if (imageInfo.imageData == null) {
+        private float placeProblemImage(int index, Slot slot, float x, float y) {
+            ImagePathService.ImageInfo questionImage = slot.imageExpected() ? images.get(index) : null;
+            if (questionImage == null || questionImage.imageData == null) {
                 // 이미지가 없는 경우 빈 박스 표시
-                return placeEmptyImageBox(x, y);
+                return placeEmptyImageBox(x, y, slot.imageHeight());
             }
 
             try {
-                Image image = new Image(imageInfo.imageData);
-                image.setWidth(imageInfo.width);
-                image.setHeight(imageInfo.height);
+                Image image = new Image(imageXObject(questionImage.imageData));
+                image.setWidth(slot.imageWidth());
+                image.setHeight(slot.imageHeight());
 
                 // 이미지를 컬럼 중앙에 정렬
-                float imageX = x + (COLUMN_WIDTH - imageInfo.width) / 2;
-                float imageY = y - imageInfo.height;
+                float imageX = x + (COLUMN_WIDTH - slot.imageWidth()) / 2;
+                float imageY = y - slot.imageHeight();
 
                 image.setFixedPosition(imageX, imageY);
 
                 // 이미지 주변에 테두리 박스 그리기
-                drawImageBorder(x + 5, imageY - 5, COLUMN_WIDTH - 10, imageInfo.height + 10);
+                drawImageBorder(x + 5, imageY - 5, COLUMN_WIDTH - 10, slot.imageHeight() + 10);
 
                 document.add(image);
 
@@ -294,15 +600,18 @@ public class CompletePdfGenerator {
 
             } catch (Exception e) {
                 log.error("문제 이미지 배치 실패", e);
-                return placeEmptyImageBox(x, y);
+                return placeEmptyImageBox(x, y, slot.imageHeight());
             }
         }
 
+        private PdfImageXObject imageXObject(ImageData imageData) {
+            return imageXObjects.computeIfAbsent(imageData, PdfImageXObject::new);
+        }
+
         /**
          * 빈 이미지 박스 배치 (이미지 로드 실패시)
          */
-        private float placeEmptyImageBox(float x, float y) {
-            float boxHeight = 60f; // 기본 높이
+        private float placeEmptyImageBox(float x, float y, float boxHeight) {
             float boxY = y - boxHeight;
 
             // 빈 박스 그리기
@@ -341,9 +650,9 @@ public class CompletePdfGenerator {
         /**
          * 정답 배치
          */
-        private float placeAnswer(Problem problem, float x, float y) {
-            // 정답 텍스트 준비
-            String answerText = formatAnswer(problem);
+        private float placeAnswer(RenderProblem problem, float x, float y) {
+            // 정답 텍스트 준비 (너무 긴 답안은 줄임)
+            String answerText = "정답: " + answerText(problem, 30);
 
             // 정답 스타일
             Paragraph answer = new Paragraph(answerText)
@@ -360,53 +669,6 @@ public class CompletePdfGenerator {
             return answerY - 5; // 5px 간격
         }
 
-        /**
-         * 정답 포맷팅
-         */
-        private String formatAnswer(Problem problem) {
-            StringBuilder answer = new StringBuilder("정답: ");
-
-            if (problem.getProblemType() == Problem.ProblemType.객관식) {
-                // 객관식: 선택지 번호
-                String correctChoice = extractCorrectChoice(problem.getSolution());
-                answer.append(correctChoice);
-            } else {
-                // 주관식/서술형: 답안 텍스트
-                String answerText = problem.getSolution();
-                if (answerText != null && !answerText.isEmpty()) {
-                    // 너무 긴 답안은 줄임
-                    if (answerText.length() > 30) {
-                        answer.append(answerText.substring(0, 27)).append("...");
-                    } else {
-                        answer.append(answerText);
-                    }
-                } else {
-                    answer.append("답안 정보 없음");
-                }
-            }
-
-            return answer.toString();
-        }
-
-        /**
-         * 객관식 정답 추출
-         */
-        private String extractCorrectChoice(String answerText) {
-            if (answerText == null || answerText.isEmpty()) {
-                return "정답 없음";
-            }
-
-            // 정답이 "3" 또는 "③" 형태로 저장된 경우 처리
-            try {
-                // 숫자인 경우
-                int choiceNum = Integer.parseInt(answerText.trim());
-                return "③ " + choiceNum + "번";
-            } catch (NumberFormatException e) {
-                // 기호인 경우 그대로 반환
-                return answerText.trim();
-            }
-        }
-
         /**
          * 새 페이지 생성
          */
@@ -418,9 +680,6 @@ public class CompletePdfGenerator {
             document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
             currentPage++;
 
-            // Y 위치 초기화
-            leftColumnY = USABLE_HEIGHT;
-            rightColumnY = USABLE_HEIGHT;
             isFirstPage = false;
 
             // 헤더 생성
@@ -602,12 +861,7 @@ public class CompletePdfGenerator {
                 lineSeparator.setMarginTop(5);
                 document.add(lineSeparator);
 
-
-                // 4. 문제 시작 위치(Y-coordinate) 업데이트
-                // 헤더의 높이를 고려하여 실제 문제가 시작될 위치를 조정해야 합니다.
-                // 이 값은 실제 생성된 헤더의 높이에 맞게 미세 조정이 필요할 수 있습니다.
-                leftColumnY = PAGE_HEIGHT - MARGIN - 150;
-                rightColumnY = PAGE_HEIGHT - MARGIN - 150;
+                // 첫 페이지 문제 시작 위치는 PAGE_FRAME.firstPageTop (헤더 150px을 뺀 값, 실제 헤더 높이가 바뀌면 함께 조정)
 
 
             } catch (Exception e) {
@@ -653,108 +907,4 @@ public class CompletePdfGenerator {
         }
     }
 
-    /**
-     * 문제 이미지 정보 클래스
-     */
-    private static class ProblemImageInfo {
-        final ImagePathService.ImageInfo questionImage;
-
-        public ProblemImageInfo(ImagePathService.ImageInfo questionImage) {
-            this.questionImage = questionImage;
-        }
-    }
-
-    /**
-     * 컬럼 위치 enum
-     */
-    private enum ColumnPosition {
-        LEFT, RIGHT, NEW_PAGE
-    }
-
-    // 폰트 생성 메소드
-//    private PdfFont createKoreanFont() throws IOException {
-//        return PdfFontFactory.createFont("fonts/NanumGothic.ttf", PdfEncodings.IDENTITY_H);
-//    }
-//
-//    private PdfFont createKoreanBoldFont() throws IOException {
-//        return PdfFontFactory.createFont("fonts/NanumGothicBold.ttf", PdfEncodings.IDENTITY_H);
-//    }
-
-    private PdfFont createKoreanFont()  {
-        try {
-            if (cachedRegularFontProgram == null) {
-                InputStream fontStream = getClass().getResourceAsStream("/fonts/NanumGothic.ttf");
-                if (fontStream != null) {
-                    byte[] fontBytes = fontStream.readAllBytes();
-                    cachedRegularFontProgram = FontProgramFactory.createFont(fontBytes);
-                }
-            }
-            PdfFont font = PdfFontFactory.createFont(cachedRegularFontProgram, PdfEncodings.IDENTITY_H);
-            log.debug("새로운 PdfFont 생성: {}", font.hashCode());
-            return font;
-
-        }catch (Exception e) {
-            log.error("폰트 생성 실패", e);
-            throw new RuntimeException("폰트 생성 실패", e);
-        }
-
-
-    }
-
-    private PdfFont createKoreanBoldFont() throws IOException {
-
-        try {
-            if (cachedBoldFontProgram == null) {
-                InputStream fontStream = getClass().getResourceAsStream("/fonts/NanumGothicBold.ttf");
-                if (fontStream != null) {
-                    byte[] fontBytes = fontStream.readAllBytes();
-                    cachedBoldFontProgram = FontProgramFactory.createFont(fontBytes);
-                }
-            }
-            PdfFont font = PdfFontFactory.createFont(cachedBoldFontProgram, PdfEncodings.IDENTITY_H);
-            log.debug("새로운 PdfFontBold 생성: {}", font.hashCode());
-            return font;
-
-        }catch (Exception e) {
-            log.error("폰트볼드 생성 실패", e);
-            throw new RuntimeException("폰트볼드 생성 실패", e);
-        }
-
-
-
-
-//        if (cachedBoldFont != null) {
-//            return cachedBoldFont;
-//        }
-//
-//        try {
-//            // 볼드 폰트 시도
-//            try {
-//                InputStream fontStream = getClass().getResourceAsStream("/fonts/NanumGothicBold.ttf");
-//                if (fontStream != null) {
-//                    byte[] fontBytes = fontStream.readAllBytes();
-//                    cachedBoldFont = PdfFontFactory.createFont(fontBytes, PdfEncodings.IDENTITY_H);
-//                    log.info("✅ 볼드 폰트 로드 성공");
-//                    return cachedBoldFont;
-//                }
-//            } catch (Exception e) {
-//                log.debug("볼드 폰트 로드 실패: {}", e.getMessage());
-//            }
-//
-//            // 볼드 폰트 실패 시 일반 폰트 사용
-//            log.warn("⚠️ 볼드 폰트 없음, 일반 폰트 사용");
-//            cachedBoldFont = createKoreanFont();
-//            return cachedBoldFont;
-//
-//        } catch (Exception e) {
-//            log.error("볼드 폰트 생성 실패", e);
-//            return createKoreanFont(); // 폴백
-//        }
-    }
-
-
-
-
-
-
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.company.edu.service.pdf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 디코딩된 문제 이미지 캐시 (용량 기준 LRU)
+ *
+ * 파일 경로별로 파싱된 ImageData와 컬럼에 맞춘 크기를 보관하고,
+ * 파일 수정 시각이 바뀌면 다시 읽는다. 전체 크기가 maxBytes를 넘으면
+ * 가장 오래 쓰이지 않은 항목부터 내보낸다.
+ */
+@Component
+@Slf4j
+public class ImageDataCache {
+
+    /**
+     * 캐시 미스 시 이미지를 읽어오는 로더
+     */
+    @FunctionalInterface
+    public interface Loader {
+        ImagePathService.ImageInfo load() throws IOException;
+    }
+
+    private static final class Entry {
+        final long lastModified;
+        final long weight;
+        final ImagePathService.ImageInfo info;
+
+        Entry(long lastModified, long weight, ImagePathService.ImageInfo info) {
+            this.lastModified = lastModified;
+            this.weight = weight;
+            this.info = info;
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long lastLoggedRequests;
+
+    public ImageDataCache(@Value("${app.pdf.image-cache.max-bytes:268435456}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 캐시 조회, 없거나 파일이 바뀌었으면 로더로 읽어서 저장
+     * 디코딩은 락 밖에서 수행한다 (같은 이미지를 동시에 읽으면 한쪽 결과만 남음).
+     */
+    public ImagePathService.ImageInfo get(String fullPath, long lastModified, Loader loader) throws IOException {
+        synchronized (this) {
+            Entry entry = entries.get(fullPath);
+            if (entry != null && entry.lastModified == lastModified) {
+                hits.increment();
+                return entry.info;
+            }
+        }
+
+        misses.increment();
+        ImagePathService.ImageInfo info = loader.load();
+        long weight = weightOf(info);
+        if (info.imageData == null || weight > maxBytes) {
+            return info;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.put(fullPath, new Entry(lastModified, weight, info));
+            if (previous != null) {
+                currentBytes -= previous.weight;
+            }
+            currentBytes += weight;
+            evictIfNeeded();
+        }
+        return info;
+    }
+
+    /**
+     * 전체 비우기
+     */
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long currentBytes() {
+        return currentBytes;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 누적 적중률 주기적 기록 (직전 기록 이후 요청이 있었을 때만)
+     */
+    @Scheduled(fixedDelayString = "${app.pdf.image-cache.stats-interval-ms:600000}")
+    public void logStats() {
+        long hitCount = hitCount();
+        long missCount = missCount();
+        long total = hitCount + missCount;
+        if (total == lastLoggedRequests) {
+            return;
+        }
+        lastLoggedRequests = total;
+        log.info("이미지 캐시: 적중={}, 미스={}, 적중률={}%, 내보냄={}, 항목={}, 크기={}KB",
+                hitCount, missCount, hitCount * 100 / total, evictionCount(), size(), currentBytes() / 1024);
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            currentBytes -= eldest.weight;
+            evictions.increment();
+        }
+    }
+
+    private static long weightOf(ImagePathService.ImageInfo info) {
+        if (info.imageData == null || info.imageData.getData() == null) {
+            return 0;
+        }
+        return info.imageData.getData().length;
+    }
+}
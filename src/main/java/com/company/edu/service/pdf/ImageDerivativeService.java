@@ -0,0 +1,243 @@
+package com.company.edu.service.pdf;
+
+import com.company.edu.common.path.FileProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * PDF 임베딩용 문제 이미지 파생본
+ *
+ * 원본이 컬럼 너비 기준 max-dpi보다 크면 축소해서 uploadDir/.derived 아래에 저장하고 재사용한다.
+ * JPEG 원본은 JPEG로, 나머지는 PNG(Flate)로 다시 인코딩하며, 흑백 이미지는 그레이스케일로 저장한다.
+ * 원본 파일이 파생본보다 새로우면 다시 만든다.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+
+    public static final String DERIVED_DIR = ".derived";
+
+    private final FileProperties fileProperties;
+
+    @Value("${app.pdf.image.derivatives-enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.pdf.image.max-dpi:200}")
+    private int maxDpi;
+
+    @Value("${app.pdf.image.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    public ImageDerivativeService(FileProperties fileProperties) {
+        this.fileProperties = fileProperties;
+    }
+
+    /**
+     * 임베딩할 이미지
+     *
+     * @param path           실제로 읽을 파일 (원본 또는 파생본)
+     * @param originalWidth  원본 픽셀 너비 (배치 크기 계산용)
+     * @param originalHeight 원본 픽셀 높이
+     */
+    public record EmbeddableImage(Path path, int originalWidth, int originalHeight) {
+    }
+
+    /**
+     * 원본 경로에 대한 임베딩용 이미지 (크기를 알 수 없거나 작으면 원본 그대로)
+     *
+     * @param drawWidth PDF에 그려질 최대 너비 (pt)
+     */
+    public EmbeddableImage resolve(Path original, float drawWidth) throws IOException {
+        int[] size = readSize(original);
+        if (size == null) {
+            return new EmbeddableImage(original, 0, 0);
+        }
+
+        int maxPixelWidth = Math.round(drawWidth * maxDpi / 72f);
+        if (!enabled || size[0] <= maxPixelWidth) {
+            return new EmbeddableImage(original, size[0], size[1]);
+        }
+
+        Path derived = derivedPath(original, maxPixelWidth);
+        if (!isFresh(derived, original)) {
+            try {
+                createDerivative(original, derived, maxPixelWidth);
+            } catch (IOException | RuntimeException e) {
+                log.warn("이미지 파생본 생성 실패, 원본 사용: {}", original, e);
+                return new EmbeddableImage(original, size[0], size[1]);
+            }
+        }
+        return new EmbeddableImage(derived, size[0], size[1]);
+    }
+
+    /**
+     * 파생본 경로: uploadDir/.derived/<원본 상대 경로 디렉토리>/<이름>_w<픽셀>.<png|jpg>
+     */
+    private Path derivedPath(Path original, int maxPixelWidth) {
+        Path uploadDir = Paths.get(fileProperties.getUploadDir()).toAbsolutePath().normalize();
+        Path source = original.toAbsolutePath().normalize();
+        Path relative = source.startsWith(uploadDir) ? uploadDir.relativize(source) : source.getFileName();
+
+        String name = relative.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String baseName = dot > 0 ? name.substring(0, dot) : name;
+        String derivedName = baseName + "_w" + maxPixelWidth + (isJpeg(name) ? ".jpg" : ".png");
+
+        Path parent = relative.getParent();
+        Path dir = parent == null ? uploadDir.resolve(DERIVED_DIR) : uploadDir.resolve(DERIVED_DIR).resolve(parent);
+        return dir.resolve(derivedName);
+    }
+
+    private static boolean isFresh(Path derived, Path original) throws IOException {
+        try {
+            return Files.getLastModifiedTime(derived).compareTo(Files.getLastModifiedTime(original)) >= 0;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private void createDerivative(Path original, Path derived, int maxPixelWidth) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            throw new IOException("지원하지 않는 이미지 형식: " + original);
+        }
+
+        boolean jpeg = isJpeg(original.getFileName().toString());
+        BufferedImage scaled = downscale(source, maxPixelWidth, jpeg);
+        BufferedImage encoded = isGrayscale(scaled) ? toGray(scaled) : scaled;
+
+        Files.createDirectories(derived.getParent());
+        Path temp = Files.createTempFile(derived.getParent(), derived.getFileName().toString(), ".tmp");
+        try {
+            if (jpeg) {
+                writeJpeg(encoded, temp);
+            } else {
+                ImageIO.write(encoded, "png", temp.toFile());
+            }
+            Files.move(temp, derived, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        log.info("이미지 파생본 생성: {} ({}x{} -> {}x{}, {}KB -> {}KB, {}ms)", derived.getFileName(),
+                source.getWidth(), source.getHeight(), encoded.getWidth(), encoded.getHeight(),
+                Files.size(original) / 1024, Files.size(derived) / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 단계적 절반 축소 후 마지막에 목표 크기로 (한 번에 크게 줄이면 글씨가 깨짐)
+     */
+    private static BufferedImage downscale(BufferedImage source, int targetWidth, boolean opaque) {
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+        int type = opaque || !source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                if (type == BufferedImage.TYPE_INT_RGB) {
+                    g.setColor(Color.WHITE); // 투명 영역은 흰 배경으로
+                    g.fillRect(0, 0, width, height);
+                }
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth);
+
+        return current;
+    }
+
+    private static boolean isGrayscale(BufferedImage image) {
+        if (image.getColorModel().hasAlpha()) {
+            return false;
+        }
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int rgb = image.getRGB(x, y);
+                int r = (rgb >> 16) & 0xff;
+                int g = (rgb >> 8) & 0xff;
+                int b = rgb & 0xff;
+                if (r != g || g != b) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static BufferedImage toGray(BufferedImage image) {
+        BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return gray;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 헤더만 읽어서 원본 크기 확인 ({너비, 높이}, 읽을 수 없으면 null)
+     */
+    private static int[] readSize(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return new int[]{reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static boolean isJpeg(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".jpg") || lower.endsWith(".jpeg");
+    }
+}
@@ -9,7 +9,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
 
@@ -18,6 +21,8 @@ import java.util.Set;
 @Slf4j
 public class ImagePathService {
     private final FileProperties fileProperties;
+    private final ImageDataCache imageDataCache;
+    private final ImageDerivativeService imageDerivativeService;
 
     // 컬럼 너비 (PDF 생성용)
     private static final float COLUMN_WIDTH = (PageSize.A4.getWidth() - 80 - 20) / 2; // 마진과 갭 고려
@@ -87,29 +92,18 @@ public class ImagePathService {
             }
 
             String fullPath = getFullFilePath(fileName);
+            Path path = Paths.get(fullPath);
 
-            // 파일 존재 확인
-            if (!fileExists(fileName)) {
+            // 파일 존재 확인 겸 수정 시각 조회 (캐시 키)
+            long lastModified;
+            try {
+                lastModified = Files.getLastModifiedTime(path).toMillis();
+            } catch (NoSuchFileException e) {
                 log.warn("이미지 파일 없음: {}", fullPath);
                 return new ImageInfo(0, 0, null);
             }
 
-            // iText ImageData 생성
-            ImageData imageData = ImageDataFactory.create(fullPath);
-
-            // 원본 크기
-            float originalWidth = imageData.getWidth();
-            float originalHeight = imageData.getHeight();
-
-            // 컬럼에 맞게 크기 조정
-            float maxWidth = COLUMN_WIDTH - 20; // 패딩 고려
-            float scaledWidth = Math.min(originalWidth, maxWidth);
-            float scaledHeight = (originalHeight * scaledWidth) / originalWidth;
-
-            log.debug("이미지 정보: {}x{} -> {}x{}",
-                    originalWidth, originalHeight, scaledWidth, scaledHeight);
-
-            return new ImageInfo(scaledWidth, scaledHeight, imageData);
+            return imageDataCache.get(fullPath, lastModified, () -> loadImageInfo(path));
 
         } catch (Exception e) {
             log.error("이미지 정보 가져오기 실패: {}", fileName, e);
@@ -118,7 +112,38 @@ public class ImagePathService {
     }
 
     /**
-     * 이미지 크기 미리 확인 (레이아웃 계산용)
+     * 이미지를 읽어 컬럼 너비에 맞춘 크기 계산 (캐시 미스 시)
+     * 원본이 크면 해상도를 줄인 파생본을 임베딩하고, 배치 크기는 원본 크기 기준으로 계산한다.
+     */
+    private ImageInfo loadImageInfo(Path path) throws IOException {
+        ImageDerivativeService.EmbeddableImage embeddable = imageDerivativeService.resolve(path, COLUMN_WIDTH - 20);
+
+        // 바이트를 직접 읽어 ImageData가 원본을 보유하게 함 (문서마다 파일을 다시 읽지 않음)
+        ImageData imageData = ImageDataFactory.create(Files.readAllBytes(embeddable.path()));
+
+        // 원본 크기를 컬럼에 맞게 조정
+        float originalWidth = embeddable.originalWidth() > 0 ? embeddable.originalWidth() : imageData.getWidth();
+        float originalHeight = embeddable.originalHeight() > 0 ? embeddable.originalHeight() : imageData.getHeight();
+        float[] scaled = scaleToColumn(originalWidth, originalHeight);
+
+        log.debug("이미지 정보: {}x{} -> {}x{} (임베딩 {}x{})",
+                originalWidth, originalHeight, scaled[0], scaled[1], imageData.getWidth(), imageData.getHeight());
+
+        return new ImageInfo(scaled[0], scaled[1], imageData);
+    }
+
+    /**
+     * 원본 크기를 컬럼 너비에 맞춘 배치 크기로 변환 ({너비, 높이})
+     */
+    public float[] scaleToColumn(float originalWidth, float originalHeight) {
+        float maxWidth = COLUMN_WIDTH - 20; // 패딩 고려
+        float scaledWidth = Math.min(originalWidth, maxWidth);
+        float scaledHeight = (originalHeight * scaledWidth) / originalWidth;
+        return new float[]{scaledWidth, scaledHeight};
+    }
+
+    /**
+     * 이미지 크기 미리 확인 (레이아웃 계산용, 캐시된 정보 재사용)
      */
     public float getImageHeight(String fileName) {
         ImageInfo info = getImageInfo(fileName);
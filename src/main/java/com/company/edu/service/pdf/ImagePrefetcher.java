@@ -0,0 +1,89 @@
+package com.company.edu.service.pdf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * 학습지 문제 이미지 미리 읽기
+ *
+ * 렌더링 시작 시 모든 이미지 로딩을 풀에 한꺼번에 맡기고,
+ * 레이아웃 단계는 문제 순서대로 결과를 기다려 가져간다(출력은 항상 동일).
+ * 렌더링이 중단되면 남은 작업을 취소한다.
+ */
+@Component
+@Slf4j
+public class ImagePrefetcher {
+
+    private final ImagePathService imagePathService;
+    private final ThreadPoolTaskExecutor executor;
+
+    public ImagePrefetcher(ImagePathService imagePathService,
+                           @Qualifier("pdfImagePrefetchExecutor") ThreadPoolTaskExecutor executor) {
+        this.imagePathService = imagePathService;
+        this.executor = executor;
+    }
+
+    /**
+     * 파일명 순서대로 로딩 작업 제출 (null인 자리는 읽지 않고 빈 이미지로 채움)
+     */
+    public Batch prefetch(List<String> fileNames) {
+        List<Future<ImagePathService.ImageInfo>> futures = new ArrayList<>(fileNames.size());
+        for (String fileName : fileNames) {
+            futures.add(fileName == null
+                    ? CompletableFuture.completedFuture(new ImagePathService.ImageInfo(0, 0, null))
+                    : executor.submit(() -> imagePathService.getImageInfo(fileName)));
+        }
+        return new Batch(futures);
+    }
+
+    /**
+     * 한 문서 분량의 미리 읽기 작업
+     */
+    public static class Batch implements AutoCloseable {
+        private final List<Future<ImagePathService.ImageInfo>> futures;
+
+        private Batch(List<Future<ImagePathService.ImageInfo>> futures) {
+            this.futures = futures;
+        }
+
+        /**
+         * index번째 이미지 (완료될 때까지 대기)
+         */
+        public ImagePathService.ImageInfo get(int index) {
+            try {
+                return futures.get(index).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("이미지 로딩 대기 중 렌더링 중단");
+            } catch (ExecutionException e) {
+                log.error("이미지 미리 읽기 실패: index={}", index, e.getCause());
+                return new ImagePathService.ImageInfo(0, 0, null);
+            }
+        }
+
+        /**
+         * 끝나지 않은 작업 취소
+         */
+        @Override
+        public void close() {
+            int cancelled = 0;
+            for (Future<ImagePathService.ImageInfo> future : futures) {
+                if (!future.isDone() && future.cancel(true)) {
+                    cancelled++;
+                }
+            }
+            if (cancelled > 0) {
+                log.debug("이미지 미리 읽기 취소: {}건", cancelled);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.company.edu.service.pdf;
+
+import com.company.edu.common.code.error.WorksheetErrorCode;
+import com.company.edu.common.customException.RestApiException;
+import com.company.edu.dto.pdf.WorksheetRenderModel;
+import com.company.edu.entity.worksheet.Worksheet;
+import com.company.edu.service.WorksheetService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 학습지 PDF 일괄 내보내기 (ZIP 스트리밍)
+ *
+ * 학습지마다 PDF 캐시를 먼저 확인하고, 없는 것만 내보내기 전용 풀에서 병렬로 렌더링한다.
+ * 한 요청이 동시에 렌더링하는 수는 max-in-flight로 제한하고,
+ * 끝나는 순서대로 ZIP 항목을 바로 써서 아카이브 전체를 메모리에 들고 있지 않는다.
+ */
+@Service
+@Slf4j
+public class PdfBulkExportService {
+
+    /**
+     * 내보낼 학습지 (엔티티에서 분리한 값)
+     */
+    public record ExportTarget(Long worksheetId, LocalDateTime updatedAt, String title) {
+    }
+
+    private record ExportResult(ExportTarget target, PdfCacheService.CachedPdf pdf, String error) {
+    }
+
+    private final WorksheetService worksheetService;
+    private final PdfCacheService pdfCacheService;
+    private final CompletePdfGenerator pdfGenerator;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${app.pdf.export.max-worksheets:300}")
+    private int maxWorksheets;
+
+    @Value("${app.pdf.export.max-in-flight:4}")
+    private int maxInFlight;
+
+    public PdfBulkExportService(WorksheetService worksheetService,
+                                PdfCacheService pdfCacheService,
+                                CompletePdfGenerator pdfGenerator,
+                                @Qualifier("pdfExportExecutor") ThreadPoolTaskExecutor executor) {
+        this.worksheetService = worksheetService;
+        this.pdfCacheService = pdfCacheService;
+        this.pdfGenerator = pdfGenerator;
+        this.executor = executor;
+    }
+
+    /**
+     * 한 번에 내보낼 수 있는 학습지 수 (대상 조회 전에 확인)
+     */
+    public int getMaxWorksheets() {
+        return maxWorksheets;
+    }
+
+    /**
+     * 권한 확인이 끝난 학습지를 내보내기 대상으로 변환
+     */
+    public List<ExportTarget> toTargets(List<Worksheet> worksheets) {
+        return worksheets.stream()
+                .map(w -> new ExportTarget(w.getWorksheetId(), w.getUpdatedAt(), w.getTitle()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * ZIP으로 스트리밍 (전달받은 스트림은 닫지 않음)
+     * 실패한 학습지는 건너뛰고 마지막에 실패 목록 파일을 넣는다.
+     */
+    public void writeZip(List<ExportTarget> targets, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        zip.setLevel(Deflater.BEST_SPEED); // PDF는 이미 압축되어 있음
+
+        CompletionService<ExportResult> completion = new ExecutorCompletionService<>(executor.getThreadPoolExecutor());
+        Deque<ExportTarget> pending = new ArrayDeque<>(targets);
+        List<Future<ExportResult>> futures = new ArrayList<>(targets.size());
+        List<String> failures = new ArrayList<>();
+        int running = 0;
+        int written = 0;
+
+        try {
+            while (!pending.isEmpty() || running > 0) {
+                while (running < maxInFlight && !pending.isEmpty()) {
+                    ExportTarget target = pending.pollFirst();
+                    futures.add(completion.submit(() -> resolve(target)));
+                    running++;
+                }
+
+                ExportResult result = completion.take().get();
+                running--;
+
+                if (result.pdf() == null) {
+                    failures.add(result.target().worksheetId() + "\t" + result.target().title() + "\t" + result.error());
+                    continue;
+                }
+
+                zip.putNextEntry(new ZipEntry(entryName(result.target())));
+                result.pdf().transferTo(zip);
+                zip.closeEntry();
+                written++;
+            }
+
+            if (!failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("failed.txt"));
+                zip.write(String.join("\n", failures).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+
+            log.info("PDF 일괄 내보내기 완료: 대상={}, 성공={}, 실패={}, 소요={}ms",
+                    targets.size(), written, failures.size(), System.currentTimeMillis() - startedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("PDF 일괄 내보내기 중단", e);
+        } catch (ExecutionException e) {
+            throw new IOException("PDF 일괄 내보내기 실패", e.getCause());
+        } finally {
+            // 클라이언트 연결이 끊기는 등으로 중단되면 남은 렌더링 취소
+            for (Future<ExportResult> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 캐시에 있으면 재사용하고, 없으면 렌더링해서 캐시에 저장
+     */
+    private ExportResult resolve(ExportTarget target) {
+        try {
+            String cacheKey = pdfCacheService.cacheKey(target.worksheetId(), target.updatedAt(), PdfVariant.PROBLEM_WITH_ANSWER);
+            Optional<PdfCacheService.CachedPdf> cached = pdfCacheService.find(target.worksheetId(), cacheKey);
+            if (cached.isPresent()) {
+                return new ExportResult(target, cached.get(), null);
+            }
+
+            WorksheetRenderModel model = worksheetService.loadRenderModel(target.worksheetId());
+            PdfCacheService.CachedPdf pdf = pdfCacheService.store(target.worksheetId(), PdfVariant.PROBLEM_WITH_ANSWER, cacheKey,
+                    out -> pdfGenerator.writePdf(model, PdfVariant.PROBLEM_WITH_ANSWER, out, CompletePdfGenerator.ProgressListener.NONE));
+            return new ExportResult(target, pdf, null);
+
+        } catch (RestApiException e) {
+            return new ExportResult(target, null, e.getErrorCode().getMessage());
+        } catch (Exception e) {
+            log.error("PDF 일괄 내보내기 - 학습지 렌더링 실패: worksheetId={}", target.worksheetId(), e);
+            return new ExportResult(target, null, WorksheetErrorCode.PDF_GENERATION_FAILED.getMessage());
+        }
+    }
+
+    private static String entryName(ExportTarget target) {
+        String title = target.title() == null ? "학습지" : target.title().replaceAll("[\\\\/:*?\"<>|\\s]+", "_");
+        if (title.length() > 50) {
+            title = title.substring(0, 50);
+        }
+        return target.worksheetId() + "_" + title + ".pdf";
+    }
+}
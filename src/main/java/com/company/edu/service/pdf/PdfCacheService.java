@@ -0,0 +1,270 @@
+package com.company.edu.service.pdf;
+
+import com.company.edu.dto.worksheet.ProblemVersionView;
+import com.company.edu.entity.worksheet.Worksheet;
+import com.company.edu.entity.worksheet.WorksheetFile;
+import com.company.edu.repository.WorksheetFileRepository;
+import com.company.edu.repository.WorksheetProblemRepository;
+import com.company.edu.repository.WorksheetRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 렌더링된 학습지 PDF 캐시
+ *
+ * PDF 종류, 학습지 ID/수정 시각, 문제 순서와 각 문제의 수정 시각으로 만든 해시를 키로
+ * app.pdf.cache.dir 아래에 PDF를 저장하고 worksheet_file에 기록한다.
+ * 학습지나 문제가 바뀌면 키가 달라지므로 오래된 파일은 절대 서빙되지 않는다.
+ * 캐시 디렉터리는 정적 리소스(/uploads/**)로 공개하지 않으며, 파일명은 키(ETag로 노출됨)가 아니라
+ * 서버 비밀값으로 만든 HMAC이라 ETag로 파일을 추측할 수 없다.
+ */
+@Service
+@Slf4j
+public class PdfCacheService {
+
+    public static final String MIME_TYPE = "application/pdf";
+
+    // 레이아웃/폰트 등 렌더링 방식이 바뀌면 올려서 기존 캐시를 무효화
+    private static final String RENDER_VERSION = "v3";
+
+    private static final int SPOOL_BUFFER_SIZE = 64 * 1024;
+
+    private final WorksheetFileRepository worksheetFileRepository;
+    private final WorksheetProblemRepository worksheetProblemRepository;
+    private final WorksheetRepository worksheetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Path cacheDir;
+    private final SecretKeySpec fileNameKey;
+
+    @Value("${app.pdf.cache.enabled:true}")
+    private boolean enabled;
+
+    public PdfCacheService(WorksheetFileRepository worksheetFileRepository,
+                           WorksheetProblemRepository worksheetProblemRepository,
+                           WorksheetRepository worksheetRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.pdf.cache.dir:./data/pdf-cache}") String cacheDir,
+                           @Value("${app.pdf.cache.secret:${jwt.secret}}") String secret) {
+        this.worksheetFileRepository = worksheetFileRepository;
+        this.worksheetProblemRepository = worksheetProblemRepository;
+        this.worksheetRepository = worksheetRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheDir = Paths.get(cacheDir).toAbsolutePath().normalize();
+        this.fileNameKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    /**
+     * 캐시된 PDF 파일 정보
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class CachedPdf {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+        private final String etag;
+
+        /**
+         * 파일 채널에서 응답 스트림으로 직접 전송 (힙에 파일 전체를 올리지 않음)
+         */
+        public void transferTo(OutputStream out) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * PDF 본문을 스트림에 기록하는 렌더러
+     */
+    @FunctionalInterface
+    public interface PdfContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 키 계산 (문제 ID/수정 시각만 조회하므로 본문 컬럼은 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public String cacheKey(Worksheet worksheet, PdfVariant variant) {
+        return cacheKey(worksheet.getWorksheetId(), worksheet.getUpdatedAt(), variant);
+    }
+
+    @Transactional(readOnly = true)
+    public String cacheKey(Long worksheetId, LocalDateTime worksheetUpdatedAt, PdfVariant variant) {
+        List<ProblemVersionView> versions = worksheetProblemRepository.findProblemVersions(worksheetId);
+
+        String source = RENDER_VERSION + "|" + variant + "|" + worksheetId + "|" + worksheetUpdatedAt + "|"
+                + versions.stream()
+                .map(v -> v.getProblemId() + ":" + v.getUpdatedAt())
+                .collect(Collectors.joining(","));
+
+        return sha256(source);
+    }
+
+    /**
+     * 캐시 조회 (기록은 있지만 파일이 없으면 기록을 지우고 미스로 처리)
+     */
+    @Transactional
+    public Optional<CachedPdf> find(Long worksheetId, String key) {
+        Optional<WorksheetFile> record = worksheetFileRepository.findFirstByWorksheet_WorksheetIdAndFileName(worksheetId, fileName(worksheetId, key));
+        if (record.isEmpty()) {
+            return Optional.empty();
+        }
+
+        WorksheetFile file = record.get();
+        Path path = resolve(file.getFilePath());
+        if (!Files.isRegularFile(path)) {
+            log.warn("PDF 캐시 파일 누락, 기록 삭제: worksheetId={}, path={}", worksheetId, path);
+            worksheetFileRepository.delete(file);
+            return Optional.empty();
+        }
+
+        return Optional.of(toCachedPdf(file, path, key));
+    }
+
+    /**
+     * 렌더링 결과 저장 (임시 파일로 바로 스풀한 뒤 원자적으로 교체)
+     * 렌더링에 수 초가 걸리므로 트랜잭션 밖에서 파일을 만들고, 기록만 짧은 트랜잭션으로 남긴다.
+     */
+    public CachedPdf store(Long worksheetId, PdfVariant variant, String key, PdfContentWriter content) throws IOException {
+        String fileName = fileName(worksheetId, key);
+        Path target = resolve(fileName);
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), fileName, ".tmp");
+        long fileSize;
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), SPOOL_BUFFER_SIZE)) {
+                content.writeTo(out);
+            }
+            fileSize = Files.size(temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        // 동시에 같은 키를 렌더링한 경우 기록은 하나만 남긴다
+        WorksheetFile file = transactionTemplate.execute(status ->
+                worksheetFileRepository.findFirstByWorksheet_WorksheetIdAndFileName(worksheetId, fileName)
+                        .orElseGet(() -> worksheetFileRepository.save(WorksheetFile.builder()
+                                .worksheet(worksheetRepository.getReferenceById(worksheetId))
+                                .fileType(variant.getFileType())
+                                .fileName(fileName)
+                                .filePath(fileName)
+                                .fileSize(fileSize)
+                                .mimeType(MIME_TYPE)
+                                .build())));
+
+        log.info("PDF 캐시 저장: worksheetId={}, variant={}, 파일크기={}KB", worksheetId, variant, fileSize / 1024);
+        return toCachedPdf(file, target, key);
+    }
+
+    /**
+     * 학습지의 캐시 전체 무효화
+     * 기록은 현재 트랜잭션에서 지우고, 파일은 커밋된 뒤에 삭제한다.
+     */
+    @Transactional
+    public void evict(Long worksheetId) {
+        List<WorksheetFile> files = worksheetFileRepository.findByWorksheet_WorksheetId(worksheetId);
+        if (files.isEmpty()) {
+            return;
+        }
+
+        List<Path> paths = files.stream().map(f -> resolve(f.getFilePath())).collect(Collectors.toList());
+        worksheetFileRepository.deleteAllInBatch(files);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFiles(paths);
+                }
+            });
+        } else {
+            deleteFiles(paths);
+        }
+        log.info("PDF 캐시 무효화: worksheetId={}, 파일 수={}", worksheetId, paths.size());
+    }
+
+    private void deleteFiles(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("PDF 캐시 파일 삭제 실패: {}", path, e);
+            }
+        }
+    }
+
+    private CachedPdf toCachedPdf(WorksheetFile file, Path path, String key) {
+        long lastModified = file.getCreatedAt() != null
+                ? file.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        return new CachedPdf(path, file.getFileSize(), lastModified, "\"" + key + "\"");
+    }
+
+    /**
+     * 파일명 = HMAC(서버 비밀값, 키) (ETag로 나가는 키와 분리)
+     */
+    private String fileName(Long worksheetId, String key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(fileNameKey);
+            byte[] digest = mac.doFinal((worksheetId + "|" + key).getBytes(StandardCharsets.UTF_8));
+            return worksheetId + "_" + HexFormat.of().formatHex(digest) + ".pdf";
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private Path resolve(String relativePath) {
+        return cacheDir.resolve(relativePath);
+    }
+
+    private static String sha256(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
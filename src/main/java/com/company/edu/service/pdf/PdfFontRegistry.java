@@ -0,0 +1,83 @@
+package com.company.edu.service.pdf;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+/**
+ * PDF 한글 폰트 레지스트리
+ *
+ * TTF 파싱 결과(FontProgram, 글리프 폭 포함)는 시작 시 한 번만 만들어 모든 문서가 공유하고,
+ * PdfFont는 문서마다 새로 만들되 서브셋으로 임베딩해 실제 사용한 글리프만 들어가게 한다.
+ */
+@Component
+@Slf4j
+public class PdfFontRegistry {
+
+    private final FontProgram regularProgram;
+    private final FontProgram boldProgram;
+
+    public PdfFontRegistry(@Value("${app.pdf.font.regular:/fonts/NanumGothic.ttf}") String regularPath,
+                           @Value("${app.pdf.font.bold:/fonts/NanumGothicBold.ttf}") String boldPath) {
+        this.regularProgram = load(regularPath);
+        FontProgram bold = load(boldPath);
+
+        if (regularProgram == null) {
+            log.error("기본 폰트 로드 실패, PDF 생성이 불가능합니다: {}", regularPath);
+        }
+        if (bold == null && regularProgram != null) {
+            log.warn("볼드 폰트 없음, 일반 폰트 사용: {}", boldPath);
+            bold = regularProgram;
+        }
+        this.boldProgram = bold;
+    }
+
+    /**
+     * 문서용 일반 폰트 (PdfFont는 문서에 종속되므로 매번 생성)
+     */
+    public PdfFont createRegularFont() {
+        return create(regularProgram, "일반");
+    }
+
+    /**
+     * 문서용 볼드 폰트
+     */
+    public PdfFont createBoldFont() {
+        return create(boldProgram, "볼드");
+    }
+
+    public boolean isAvailable() {
+        return regularProgram != null;
+    }
+
+    private static PdfFont create(FontProgram program, String name) {
+        if (program == null) {
+            throw new IllegalStateException(name + " 폰트가 로드되지 않았습니다");
+        }
+        PdfFont font = PdfFontFactory.createFont(program, PdfEncodings.IDENTITY_H,
+                PdfFontFactory.EmbeddingStrategy.FORCE_EMBEDDED);
+        font.setSubset(true);
+        return font;
+    }
+
+    private FontProgram load(String classpathLocation) {
+        try (InputStream fontStream = getClass().getResourceAsStream(classpathLocation)) {
+            if (fontStream == null) {
+                return null;
+            }
+            FontProgram program = FontProgramFactory.createFont(fontStream.readAllBytes());
+            log.info("폰트 로드 완료: {} ({})", classpathLocation, program.getFontNames().getFontName());
+            return program;
+        } catch (Exception e) {
+            log.error("폰트 로드 실패: {}", classpathLocation, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.edu.service.pdf;
+
+import com.company.edu.common.code.error.CommonErrorCode;
+import com.company.edu.common.customException.RestApiException;
+import com.company.edu.dto.pdf.LayoutBenchmarkResult;
+import com.company.edu.dto.pdf.WorksheetRenderModel;
+import com.company.edu.service.WorksheetService;
+import com.company.edu.service.pdf.layout.PdfLayoutStrategy;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 전략별 PDF 비교 (운영자용)
+ * 실제 학습지를 전략마다 렌더링해 페이지 수, 렌더링 시간, 파일 크기를 잰다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PdfLayoutBenchmarkService {
+
+    private static final int MAX_WORKSHEETS = 20;
+    private static final int MAX_RUNS = 10;
+
+    private final WorksheetService worksheetService;
+    private final CompletePdfGenerator pdfGenerator;
+
+    public List<LayoutBenchmarkResult> run(List<Long> worksheetIds, int runs) {
+        if (worksheetIds == null || worksheetIds.isEmpty() || worksheetIds.size() > MAX_WORKSHEETS
+                || runs < 1 || runs > MAX_RUNS) {
+            throw new RestApiException(CommonErrorCode.INVALID_PARAMETER);
+        }
+
+        List<LayoutBenchmarkResult> results = new ArrayList<>();
+        for (Long worksheetId : worksheetIds) {
+            WorksheetRenderModel model = worksheetService.loadRenderModel(worksheetId);
+            for (PdfLayoutStrategy strategy : pdfGenerator.getLayoutStrategies()) {
+                results.add(measure(model, strategy, runs));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 첫 실행은 레이아웃 계획을 포함하고, 이후 실행은 계획 캐시를 쓴다.
+     */
+    private LayoutBenchmarkResult measure(WorksheetRenderModel model, PdfLayoutStrategy strategy, int runs) {
+        long first = 0;
+        long best = Long.MAX_VALUE;
+        byte[] pdf = null;
+
+        for (int run = 0; run < runs; run++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long startedAt = System.nanoTime();
+            pdfGenerator.writePdf(model, PdfVariant.PROBLEM_WITH_ANSWER, strategy, out, CompletePdfGenerator.ProgressListener.NONE);
+            long elapsed = (System.nanoTime() - startedAt) / 1_000_000;
+
+            if (run == 0) {
+                first = elapsed;
+            }
+            best = Math.min(best, elapsed);
+            pdf = out.toByteArray();
+        }
+
+        int pages = countPages(pdf);
+        log.info("배치 전략 비교: worksheetId={}, 전략={}, 페이지={}, 첫 렌더링={}ms, 최소={}ms, 크기={}KB",
+                model.getWorksheetId(), strategy.getName(), pages, first, best, pdf.length / 1024);
+
+        return new LayoutBenchmarkResult(model.getWorksheetId(), strategy.getName(), model.getProblems().size(),
+                pages, first, best, (long) pdf.length / 1024);
+    }
+
+    private static int countPages(byte[] pdf) {
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            return document.getNumberOfPages();
+        } catch (IOException e) {
+            throw new IllegalStateException("PDF 페이지 수 확인 실패", e);
+        }
+    }
+}
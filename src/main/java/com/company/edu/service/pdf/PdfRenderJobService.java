@@ -0,0 +1,252 @@
+package com.company.edu.service.pdf;
+
+import com.company.edu.common.code.error.WorksheetErrorCode;
+import com.company.edu.common.customException.RestApiException;
+import com.company.edu.dto.pdf.WorksheetRenderModel;
+import com.company.edu.entity.worksheet.Worksheet;
+import com.company.edu.service.WorksheetService;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비동기 PDF 렌더링 작업
+ *
+ * 요청 스레드에서는 렌더링 입력을 DTO로 분리해 대기열에 넣고 작업 ID만 돌려준다.
+ * 회원별 대기열을 라운드로빈으로 꺼내므로 한 사용자가 대량으로 요청해도
+ * 다른 사용자의 작업이 밀리지 않고, 워커 수만큼만 동시에 렌더링한다.
+ */
+@Service
+@Slf4j
+public class PdfRenderJobService {
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+    /**
+     * 렌더링 작업 상태
+     */
+    @Getter
+    public static class Job {
+        private final String jobId;
+        private final Long memberId;
+        private final Long worksheetId;
+        private final String title;
+        private final String cacheKey;
+        private final long createdAt = System.currentTimeMillis();
+
+        private volatile Status status = Status.QUEUED;
+        private volatile int placed;
+        private volatile int total;
+        private volatile String errorMessage;
+        private volatile long finishedAt;
+        private volatile PdfCacheService.CachedPdf result;
+
+        // 렌더링 입력 (완료되면 비움)
+        @Getter(AccessLevel.NONE)
+        private volatile WorksheetRenderModel model;
+
+        private Job(Long memberId, Long worksheetId, String title, String cacheKey) {
+            this.jobId = UUID.randomUUID().toString();
+            this.memberId = memberId;
+            this.worksheetId = worksheetId;
+            this.title = title;
+            this.cacheKey = cacheKey;
+        }
+
+        public int getProgress() {
+            if (status == Status.DONE) return 100;
+            return total == 0 ? 0 : placed * 100 / total;
+        }
+
+        public boolean isFinished() {
+            return status == Status.DONE || status == Status.FAILED;
+        }
+
+        private void complete(PdfCacheService.CachedPdf result) {
+            this.result = result;
+            this.model = null;
+            this.finishedAt = System.currentTimeMillis();
+            this.status = Status.DONE;
+        }
+
+        private void fail(String message) {
+            this.errorMessage = message;
+            this.model = null;
+            this.finishedAt = System.currentTimeMillis();
+            this.status = Status.FAILED;
+        }
+    }
+
+    private final WorksheetService worksheetService;
+    private final PdfCacheService pdfCacheService;
+    private final CompletePdfGenerator pdfGenerator;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${app.pdf.render.max-queued:200}")
+    private int maxQueued;
+
+    @Value("${app.pdf.render.max-per-member:5}")
+    private int maxPerMember;
+
+    @Value("${app.pdf.render.job-ttl-ms:1800000}")
+    private long jobTtlMillis;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    // 아래 세 필드는 this로 동기화
+    private final Map<Long, Deque<Job>> pendingByMember = new HashMap<>();
+    private final Deque<Long> memberRotation = new ArrayDeque<>();
+    private int pendingCount;
+
+    public PdfRenderJobService(WorksheetService worksheetService,
+                               PdfCacheService pdfCacheService,
+                               CompletePdfGenerator pdfGenerator,
+                               @Qualifier("pdfRenderExecutor") ThreadPoolTaskExecutor executor) {
+        this.worksheetService = worksheetService;
+        this.pdfCacheService = pdfCacheService;
+        this.pdfGenerator = pdfGenerator;
+        this.executor = executor;
+    }
+
+    /**
+     * 렌더링 작업 제출 (권한 확인은 호출하는 쪽에서)
+     * 캐시에 있으면 바로 완료 상태로, 같은 회원의 같은 작업이 진행 중이면 그 작업을 돌려준다.
+     */
+    public Job submit(Long memberId, Worksheet worksheet) {
+        Long worksheetId = worksheet.getWorksheetId();
+        String cacheKey = pdfCacheService.cacheKey(worksheet, PdfVariant.PROBLEM_WITH_ANSWER);
+
+        for (Job existing : jobs.values()) {
+            if (existing.memberId.equals(memberId) && existing.cacheKey.equals(cacheKey) && !existing.isFinished()) {
+                return existing;
+            }
+        }
+
+        Job job = new Job(memberId, worksheetId, worksheet.getTitle(), cacheKey);
+
+        Optional<PdfCacheService.CachedPdf> cached = pdfCacheService.find(worksheetId, cacheKey);
+        if (cached.isPresent()) {
+            job.complete(cached.get());
+            jobs.put(job.jobId, job);
+            return job;
+        }
+
+        // 엔티티를 DTO로 분리한 뒤에 대기열에 넣음 (워커는 DB 연결 없이 렌더링)
+        job.model = worksheetService.loadRenderModel(worksheetId);
+        job.total = job.model.getProblems().size();
+
+        enqueue(job);
+        jobs.put(job.jobId, job);
+        executor.execute(this::runNext);
+
+        log.info("PDF 렌더링 작업 등록: jobId={}, worksheetId={}, memberId={}", job.jobId, worksheetId, memberId);
+        return job;
+    }
+
+    /**
+     * 작업 조회 (본인 작업만)
+     */
+    public Job getJob(String jobId, Long memberId) {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.memberId.equals(memberId)) {
+            throw new RestApiException(WorksheetErrorCode.PDF_RENDER_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 완료된 작업의 결과 파일 (학습지가 수정돼 캐시가 지워졌으면 찾을 수 없음)
+     */
+    public PdfCacheService.CachedPdf getResult(String jobId, Long memberId) {
+        Job job = getJob(jobId, memberId);
+        if (job.status != Status.DONE) {
+            throw new RestApiException(WorksheetErrorCode.PDF_RENDER_JOB_NOT_READY);
+        }
+        if (!Files.isRegularFile(job.result.getPath())) {
+            throw new RestApiException(WorksheetErrorCode.PDF_RENDER_JOB_NOT_FOUND);
+        }
+        return job.result;
+    }
+
+    private synchronized void enqueue(Job job) {
+        if (pendingCount >= maxQueued) {
+            throw new RestApiException(WorksheetErrorCode.PDF_RENDER_QUEUE_FULL);
+        }
+        Deque<Job> queue = pendingByMember.computeIfAbsent(job.memberId, id -> new ArrayDeque<>());
+        if (queue.size() >= maxPerMember) {
+            throw new RestApiException(WorksheetErrorCode.PDF_RENDER_TOO_MANY_JOBS);
+        }
+        if (queue.isEmpty()) {
+            memberRotation.addLast(job.memberId);
+        }
+        queue.addLast(job);
+        pendingCount++;
+    }
+
+    /**
+     * 다음 회원의 가장 오래된 작업 (라운드로빈)
+     */
+    private synchronized Job pollNext() {
+        Long memberId = memberRotation.pollFirst();
+        if (memberId == null) {
+            return null;
+        }
+        Deque<Job> queue = pendingByMember.get(memberId);
+        Job job = queue.pollFirst();
+        if (queue.isEmpty()) {
+            pendingByMember.remove(memberId);
+        } else {
+            memberRotation.addLast(memberId);
+        }
+        pendingCount--;
+        return job;
+    }
+
+    /**
+     * 워커: 제출 1건당 한 번 실행되어, 제출 순서와 상관없이 공정한 순서로 다음 작업을 처리
+     */
+    private void runNext() {
+        Job job = pollNext();
+        if (job == null) {
+            return;
+        }
+
+        job.status = Status.RUNNING;
+        try {
+            WorksheetRenderModel model = job.model;
+            PdfCacheService.CachedPdf result = pdfCacheService.store(job.worksheetId, PdfVariant.PROBLEM_WITH_ANSWER, job.cacheKey,
+                    out -> pdfGenerator.writePdf(model, PdfVariant.PROBLEM_WITH_ANSWER, out, (placed, total) -> {
+                        job.placed = placed;
+                        job.total = total;
+                    }));
+            job.complete(result);
+            log.info("PDF 렌더링 작업 완료: jobId={}, worksheetId={}, 소요={}ms",
+                    job.jobId, job.worksheetId, job.finishedAt - job.createdAt);
+        } catch (RestApiException e) {
+            job.fail(e.getErrorCode().getMessage());
+        } catch (Exception e) {
+            log.error("PDF 렌더링 작업 실패: jobId={}, worksheetId={}", job.jobId, job.worksheetId, e);
+            job.fail(WorksheetErrorCode.PDF_GENERATION_FAILED.getMessage());
+        }
+    }
+
+    /**
+     * 오래된 완료 작업 정리 (결과 파일은 PDF 캐시가 관리)
+     */
+    @Scheduled(fixedDelayString = "${app.pdf.render.cleanup-interval-ms:60000}")
+    public void removeExpiredJobs() {
+        long threshold = System.currentTimeMillis() - jobTtlMillis;
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt < threshold);
+    }
+}
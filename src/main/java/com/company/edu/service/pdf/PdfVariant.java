@@ -0,0 +1,23 @@
+package com.company.edu.service.pdf;
+
+import com.company.edu.entity.worksheet.WorksheetFile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 학습지 PDF 종류
+ * 모두 같은 레이아웃 계획에서 그려지며, 캐시 키에는 종류가 들어간다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PdfVariant {
+
+    PROBLEM_WITH_ANSWER(WorksheetFile.FileType.PROBLEM, "문제지", true),  // 문제 + 정답
+    PROBLEM_ONLY(WorksheetFile.FileType.PROBLEM, "시험지", true),         // 문제만 (정답 자리는 비워 둠)
+    ANSWER_GRID(WorksheetFile.FileType.ANSWER, "빠른정답", false),         // 번호별 정답 표
+    SOLUTION(WorksheetFile.FileType.SOLUTION, "해설지", false);            // 정답/힌트/풀이
+
+    private final WorksheetFile.FileType fileType;
+    private final String label;
+    private final boolean drawsImages;
+}
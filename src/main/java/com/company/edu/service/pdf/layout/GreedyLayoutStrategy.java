@@ -0,0 +1,46 @@
+package com.company.edu.service.pdf.layout;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기본 배치: 문제 순서대로 왼쪽 → 오른쪽 컬럼에 넣고, 둘 다 부족하면 새 페이지
+ */
+@Component
+public class GreedyLayoutStrategy implements PdfLayoutStrategy {
+
+    public static final String NAME = "greedy";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Placement> place(List<Block> blocks, PageFrame frame) {
+        List<Placement> placements = new ArrayList<>(blocks.size());
+        int page = 1;
+        float[] columnY = {frame.top(page), frame.top(page)};
+
+        for (Block block : blocks) {
+            int column;
+            if (columnY[LEFT] - frame.bottom() >= block.requiredHeight()) {
+                column = LEFT;
+            } else if (columnY[RIGHT] - frame.bottom() >= block.requiredHeight()) {
+                column = RIGHT;
+            } else {
+                // 둘 다 부족하면 새 페이지 왼쪽부터
+                page++;
+                columnY[LEFT] = frame.top(page);
+                columnY[RIGHT] = frame.top(page);
+                column = LEFT;
+            }
+
+            placements.add(new Placement(page, column, columnY[column]));
+            columnY[column] -= block.height();
+        }
+        return placements;
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.edu.service.pdf.layout;
+
+import java.util.List;
+
+/**
+ * 2단 레이아웃 배치 전략
+ * 문제 블록 높이만 보고 각 문제의 페이지/컬럼/윗변 위치를 정한다 (그리지 않음).
+ */
+public interface PdfLayoutStrategy {
+
+    int LEFT = 0;
+    int RIGHT = 1;
+
+    /**
+     * 설정(app.pdf.layout.strategy)과 벤치마크에서 쓰는 이름
+     */
+    String getName();
+
+    /**
+     * 블록마다 배치 위치 결정 (결과는 blocks와 같은 순서)
+     */
+    List<Placement> place(List<Block> blocks, PageFrame frame);
+
+    /**
+     * 문제 블록
+     *
+     * @param requiredHeight 컬럼에 들어갈 수 있는지 판단할 때 쓰는 높이
+     * @param height         배치 후 컬럼에서 실제로 차지하는 높이 (문제 간 간격 포함)
+     */
+    record Block(float requiredHeight, float height) {
+    }
+
+    /**
+     * 배치 결과 (page는 1부터, top은 페이지 좌표의 블록 윗변)
+     */
+    record Placement(int page, int column, float top) {
+    }
+
+    /**
+     * 페이지 틀 (첫 페이지는 큰 헤더 때문에 시작 위치가 다름)
+     */
+    record PageFrame(float firstPageTop, float nextPageTop, float bottom) {
+
+        float top(int page) {
+            return page == 1 ? firstPageTop : nextPageTop;
+        }
+    }
+}
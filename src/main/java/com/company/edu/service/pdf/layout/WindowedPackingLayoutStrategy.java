@@ -0,0 +1,111 @@
+package com.company.edu.service.pdf.layout;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * 창 단위 First-Fit-Decreasing 배치
+ *
+ * 아직 배치하지 않은 가장 앞 문제(head)부터 head+window-1번까지만 후보로 보고, 큰 블록부터
+ * 현재 페이지의 왼쪽/오른쪽 컬럼 중 들어가는 곳에 넣는다. 후보가 하나도 들어가지 않을 때만
+ * 새 페이지를 시작하므로 컬럼 아래쪽 빈 공간을 뒤 문제로 채운다.
+ * 후보 범위가 남은 문제 수가 아니라 head 기준 번호로 정해지므로, 큰 문제가 들어가지 않아도
+ * 뒤 문제는 최대 window-1개만 앞질러 갈 수 있고, 번호는 그대로 표시된다.
+ */
+@Component
+public class WindowedPackingLayoutStrategy implements PdfLayoutStrategy {
+
+    public static final String NAME = "packed";
+
+    @Value("${app.pdf.layout.window:6}")
+    private int window;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Placement> place(List<Block> blocks, PageFrame frame) {
+        Placement[] placements = new Placement[blocks.size()];
+        LinkedList<Integer> pending = new LinkedList<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            pending.add(i);
+        }
+
+        int page = 1;
+        float[] columnY = {frame.top(page), frame.top(page)};
+        boolean pageEmpty = true;
+
+        int span = Math.max(window, 1);
+        while (!pending.isEmpty()) {
+            int limit = pending.getFirst() + span; // head + window - 1 까지
+            List<Integer> candidates = new ArrayList<>(span);
+            for (Integer index : pending) {
+                if (index >= limit) {
+                    break;
+                }
+                candidates.add(index);
+            }
+            candidates.sort(Comparator.comparingDouble((Integer i) -> blocks.get(i).requiredHeight()).reversed());
+
+            boolean placedAny = false;
+            for (Integer index : candidates) {
+                Block block = blocks.get(index);
+                int column = fittingColumn(block, columnY, frame);
+                if (column < 0) {
+                    continue;
+                }
+                placements[index] = new Placement(page, column, columnY[column]);
+                columnY[column] -= block.height();
+                pending.remove(index);
+                placedAny = true;
+                pageEmpty = false;
+            }
+
+            if (placedAny) {
+                continue;
+            }
+
+            if (pageEmpty) {
+                // 빈 페이지에도 안 들어가는 블록은 왼쪽에 그대로 둔다 (기본 배치와 동일)
+                Integer index = pending.removeFirst();
+                placements[index] = new Placement(page, LEFT, columnY[LEFT]);
+                columnY[LEFT] -= blocks.get(index).height();
+                pageEmpty = false;
+                continue;
+            }
+
+            page++;
+            columnY[LEFT] = frame.top(page);
+            columnY[RIGHT] = frame.top(page);
+            pageEmpty = true;
+        }
+
+        return Arrays.asList(placements);
+    }
+
+    /**
+     * 들어갈 수 있는 컬럼 중 남는 공간이 적은 쪽 (없으면 -1)
+     */
+    private static int fittingColumn(Block block, float[] columnY, PageFrame frame) {
+        float leftRoom = columnY[LEFT] - frame.bottom();
+        float rightRoom = columnY[RIGHT] - frame.bottom();
+        boolean leftFits = leftRoom >= block.requiredHeight();
+        boolean rightFits = rightRoom >= block.requiredHeight();
+
+        if (leftFits && rightFits) {
+            return leftRoom <= rightRoom ? LEFT : RIGHT;
+        }
+        if (leftFits) {
+            return LEFT;
+        }
+        return rightFits ? RIGHT : -1;
+    }
+}
@@ -0,0 +1,127 @@
+package com.company.edu.service.problem;
+
+import com.company.edu.common.code.error.CommonErrorCode;
+import com.company.edu.common.customException.RestApiException;
+import com.company.edu.dto.worksheet.ProblemDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * "문제 추가" 후보 피드
+ *
+ * 요청마다 정해지는 seed로 후보 ID를 무작위 순열(mix64(id ^ seed))로 정렬하고,
+ * 마지막으로 내려준 순열 키를 커서로 삼아 다음 페이지를 찾는다(keyset 페이지네이션).
+ * 후보와 제외 목록 모두 카탈로그 인덱스와 HashSet으로 메모리에서 처리하므로
+ * OFFSET 스캔이나 NOT IN 목록이 없다.
+ * 카탈로그 인덱스가 준비되지 않았으면 503으로 응답한다 (적재 재시도는 인덱스의 주기 갱신이 맡음).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProblemCandidateFeed {
+
+    private final ProblemCatalogIndex catalogIndex;
+    private final ProblemSampler problemSampler;
+
+    @Value("${app.worksheet.candidate-feed.max-size:100}")
+    private int maxSize;
+
+    /**
+     * 피드 한 페이지
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Page {
+        private final List<ProblemDTO> problems;
+        private final long seed;
+        private final String nextCursor;
+        private final boolean hasNext;
+        private final int totalAvailable;
+        private final int remaining;
+    }
+
+    public Page next(List<Long> minorUnitIds, String problemType, Collection<Long> excludeIds,
+                     int size, Long seed, String cursor) {
+        if (size <= 0 || size > maxSize) {
+            throw new RestApiException(CommonErrorCode.INVALID_PARAMETER);
+        }
+
+        // 인덱스 전용 기능: 비활성화됐거나 아직 적재 전이면 요청 경로에서 적재하지 않고 바로 실패
+        if (!catalogIndex.isReady()) {
+            throw new RestApiException(CommonErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        long effectiveSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        boolean hasCursor = cursor != null && !cursor.isEmpty();
+        long after = hasCursor ? decodeCursor(cursor) : 0L;
+
+        long[] candidates = catalogIndex.candidates(minorUnitIds, null, problemType);
+        Set<Long> excluded = excludeIds != null ? new HashSet<>(excludeIds) : Set.of();
+
+        // 커서 이후 키 중 가장 작은 size개를 최대 힙으로 유지
+        PriorityQueue<long[]> window = new PriorityQueue<>(size + 1,
+                (a, b) -> Long.compareUnsigned(b[0], a[0]));
+        int totalAvailable = 0;
+        int remaining = 0;
+
+        for (long id : candidates) {
+            if (excluded.contains(id)) continue;
+            totalAvailable++;
+
+            long key = permutationKey(id, effectiveSeed);
+            if (hasCursor && Long.compareUnsigned(key, after) <= 0) continue;
+            remaining++;
+
+            if (window.size() < size) {
+                window.add(new long[]{key, id});
+            } else if (Long.compareUnsigned(key, window.peek()[0]) < 0) {
+                window.poll();
+                window.add(new long[]{key, id});
+            }
+        }
+
+        List<long[]> pageEntries = new ArrayList<>(window);
+        pageEntries.sort((a, b) -> Long.compareUnsigned(a[0], b[0]));
+
+        List<Long> pageIds = new ArrayList<>(pageEntries.size());
+        for (long[] entry : pageEntries) {
+            pageIds.add(entry[1]);
+        }
+
+        boolean hasNext = remaining > pageEntries.size();
+        String nextCursor = pageEntries.isEmpty()
+                ? cursor
+                : encodeCursor(pageEntries.get(pageEntries.size() - 1)[0]);
+
+        return new Page(problemSampler.hydrate(pageIds), effectiveSeed, nextCursor, hasNext,
+                totalAvailable, remaining - pageEntries.size());
+    }
+
+    /**
+     * seed별 무작위 순열 키 (SplitMix64 finalizer, id에 대해 전단사이므로 키 충돌 없음)
+     */
+    static long permutationKey(long id, long seed) {
+        long z = id ^ seed;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String encodeCursor(long key) {
+        return Long.toUnsignedString(key, 36);
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseUnsignedLong(cursor, 36);
+        } catch (NumberFormatException e) {
+            throw new RestApiException(CommonErrorCode.INVALID_PARAMETER);
+        }
+    }
+}
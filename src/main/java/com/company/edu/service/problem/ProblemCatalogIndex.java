@@ -0,0 +1,358 @@
+package com.company.edu.service.problem;
+
+import com.company.edu.dto.worksheet.ProblemCatalogRow;
+import com.company.edu.entity.problem.Problem;
+import com.company.edu.repository.ProblemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 문제 카탈로그 인메모리 인덱스
+ *
+ * (소단원 ID, 난이도, 문제 유형) 버킷마다 정렬된 long[] ID 배열을 보관한다.
+ * 시작 시 전체 적재 후 Problem.updatedAt 기준으로 변경분만 DB에서 읽어 스냅샷을 교체(copy-on-write)한다.
+ * 삭제는 updatedAt으로 감지할 수 없으므로 건수 불일치 시와 주기적 전체 재적재로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProblemCatalogIndex {
+
+    static final String[] DIFFICULTIES = {"하", "중하", "중", "상", "최상"};
+    private static final int OTHER_DIFFICULTY = DIFFICULTIES.length;
+    private static final Problem.ProblemType[] TYPES = Problem.ProblemType.values();
+    private static final long[] EMPTY = new long[0];
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ProblemRepository problemRepository;
+
+    @Value("${app.catalog.enabled:true}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 인덱스 스냅샷 (불변)
+     * ids/keys는 ID 오름차순 병렬 배열, buckets는 버킷 키별 정렬된 ID 배열
+     */
+    private static final class Snapshot {
+        final long[] ids;
+        final long[] keys;
+        final Map<Long, long[]> buckets;
+        final LocalDateTime maxUpdatedAt;
+
+        Snapshot(long[] ids, long[] keys, LocalDateTime maxUpdatedAt) {
+            this.ids = ids;
+            this.keys = keys;
+            this.maxUpdatedAt = maxUpdatedAt;
+            this.buckets = buildBuckets(ids, keys);
+        }
+
+        /**
+         * 버킷 구성은 그대로 두고 증분 기준 시각만 앞당긴 스냅샷
+         */
+        Snapshot(Snapshot base, LocalDateTime maxUpdatedAt) {
+            this.ids = base.ids;
+            this.keys = base.keys;
+            this.buckets = base.buckets;
+            this.maxUpdatedAt = maxUpdatedAt;
+        }
+
+        private static Map<Long, long[]> buildBuckets(long[] ids, long[] keys) {
+            Map<Long, Integer> sizes = new HashMap<>();
+            for (long key : keys) {
+                sizes.merge(key, 1, Integer::sum);
+            }
+            Map<Long, long[]> buckets = new HashMap<>(sizes.size() * 2);
+            Map<Long, Integer> cursor = new HashMap<>(sizes.size() * 2);
+            sizes.forEach((key, size) -> {
+                buckets.put(key, new long[size]);
+                cursor.put(key, 0);
+            });
+            // ids가 정렬되어 있으므로 버킷 내부도 정렬 상태로 채워진다
+            for (int i = 0; i < ids.length; i++) {
+                int pos = cursor.get(keys[i]);
+                buckets.get(keys[i])[pos] = ids[i];
+                cursor.put(keys[i], pos + 1);
+            }
+            return buckets;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("문제 카탈로그 인덱스 비활성화");
+            return;
+        }
+        reloadAll();
+    }
+
+    /**
+     * 전체 재적재
+     */
+    public synchronized void reloadAll() {
+        try {
+            long start = System.currentTimeMillis();
+            List<ProblemCatalogRow> rows = problemRepository.findAllCatalogRows();
+
+            rows.sort(Comparator.comparing(ProblemCatalogRow::getId));
+            long[] ids = new long[rows.size()];
+            long[] keys = new long[rows.size()];
+            LocalDateTime maxUpdatedAt = null;
+            for (int i = 0; i < rows.size(); i++) {
+                ProblemCatalogRow row = rows.get(i);
+                ids[i] = row.getId();
+                keys[i] = bucketKey(row);
+                maxUpdatedAt = max(maxUpdatedAt, row.getUpdatedAt());
+            }
+
+            snapshot = new Snapshot(ids, keys, maxUpdatedAt);
+            log.info("문제 카탈로그 인덱스 적재 완료: 문제={}, 버킷={}, 소요={}ms",
+                    ids.length, snapshot.buckets.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("문제 카탈로그 인덱스 적재 실패 (SQL 조회로 대체)", e);
+        }
+    }
+
+    /**
+     * 변경분 증분 갱신 (시작 시 적재에 실패했으면 여기서 다시 전체 적재)
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.refresh-interval-ms:30000}",
+            initialDelayString = "${app.catalog.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            reloadAll();
+            return;
+        }
+
+        try {
+            LocalDateTime since = current.maxUpdatedAt != null ? current.maxUpdatedAt : EPOCH;
+            List<ProblemCatalogRow> changed = problemRepository.findCatalogRowsUpdatedSince(since);
+
+            Snapshot next = applyChanges(current, changed);
+
+            // 삭제된 문제는 updatedAt으로 잡히지 않으므로 건수로 확인
+            if (problemRepository.count() != next.ids.length) {
+                log.info("문제 카탈로그 건수 불일치, 전체 재적재");
+                reloadAll();
+                return;
+            }
+
+            if (next != current) {
+                snapshot = next;
+                log.debug("문제 카탈로그 인덱스 증분 갱신: 조회={}", changed.size());
+            }
+        } catch (Exception e) {
+            log.warn("문제 카탈로그 인덱스 증분 갱신 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.catalog.full-reload-cron:0 0 4 * * *}")
+    public void scheduledReload() {
+        if (snapshot != null) {
+            reloadAll();
+        }
+    }
+
+    private Snapshot applyChanges(Snapshot current, List<ProblemCatalogRow> changed) {
+        Map<Long, Long> changedKeys = new HashMap<>();
+        LocalDateTime maxUpdatedAt = current.maxUpdatedAt;
+        for (ProblemCatalogRow row : changed) {
+            long key = bucketKey(row);
+            int pos = Arrays.binarySearch(current.ids, row.getId());
+            // 경계 시각(>=)으로 다시 읽힌 미변경 행은 건너뜀
+            if (pos < 0 || current.keys[pos] != key) {
+                changedKeys.put(row.getId(), key);
+            }
+            maxUpdatedAt = max(maxUpdatedAt, row.getUpdatedAt());
+        }
+
+        if (changedKeys.isEmpty()) {
+            return Objects.equals(maxUpdatedAt, current.maxUpdatedAt) ? current : new Snapshot(current, maxUpdatedAt);
+        }
+
+        long[] ids = Arrays.copyOf(current.ids, current.ids.length + changedKeys.size());
+        long[] keys = Arrays.copyOf(current.keys, ids.length);
+        int size = current.ids.length;
+
+        for (Map.Entry<Long, Long> entry : changedKeys.entrySet()) {
+            int pos = Arrays.binarySearch(current.ids, entry.getKey());
+            if (pos >= 0) {
+                keys[pos] = entry.getValue();
+            } else {
+                ids[size] = entry.getKey();
+                keys[size] = entry.getValue();
+                size++;
+            }
+        }
+
+        if (size > current.ids.length) {
+            // 신규 문제가 있으면 ID 순으로 재정렬
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) order[i] = i;
+            final long[] unsortedIds = ids;
+            Arrays.sort(order, Comparator.comparingLong(i -> unsortedIds[i]));
+            long[] sortedIds = new long[size];
+            long[] sortedKeys = new long[size];
+            for (int i = 0; i < size; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedKeys[i] = keys[order[i]];
+            }
+            ids = sortedIds;
+            keys = sortedKeys;
+        } else {
+            ids = Arrays.copyOf(ids, size);
+            keys = Arrays.copyOf(keys, size);
+        }
+
+        return new Snapshot(ids, keys, maxUpdatedAt);
+    }
+
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    /**
+     * 조건에 맞는 후보 문제 ID (SQL 없이)
+     * @param difficulty null이면 전체 난이도
+     * @param problemType null 또는 "전체"면 전체 유형
+     */
+    public long[] candidates(Collection<Long> minorUnitIds, String difficulty, String problemType) {
+        Snapshot current = snapshot;
+        if (current == null || minorUnitIds == null) {
+            return EMPTY;
+        }
+
+        List<long[]> parts = new ArrayList<>();
+        int total = 0;
+        for (long bucketKey : bucketKeys(minorUnitIds, difficulty, problemType)) {
+            long[] bucket = current.buckets.get(bucketKey);
+            if (bucket != null) {
+                parts.add(bucket);
+                total += bucket.length;
+            }
+        }
+
+        long[] result = new long[total];
+        int offset = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+
+    /**
+     * 조건에 맞는 문제 수
+     */
+    public int count(Collection<Long> minorUnitIds, String difficulty, String problemType) {
+        Snapshot current = snapshot;
+        if (current == null || minorUnitIds == null) {
+            return 0;
+        }
+
+        int total = 0;
+        for (long bucketKey : bucketKeys(minorUnitIds, difficulty, problemType)) {
+            long[] bucket = current.buckets.get(bucketKey);
+            total += bucket != null ? bucket.length : 0;
+        }
+        return total;
+    }
+
+    /**
+     * 후보 배열에서 제외 ID를 뺀 뒤 최대 n개를 무작위 추출 (부분 Fisher-Yates)
+     */
+    public static List<Long> sample(long[] candidates, int n, Set<Long> excludeIds) {
+        long[] pool = candidates.clone();
+        int size = pool.length;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> picked = new ArrayList<>(Math.min(n, size));
+
+        while (picked.size() < n && size > 0) {
+            int pos = random.nextInt(size);
+            long id = pool[pos];
+            pool[pos] = pool[--size];
+            if (excludeIds == null || !excludeIds.contains(id)) {
+                picked.add(id);
+            }
+        }
+        return picked;
+    }
+
+    private List<Long> bucketKeys(Collection<Long> minorUnitIds, String difficulty, String problemType) {
+        int[] difficultyIndexes = difficulty == null
+                ? new int[]{0, 1, 2, 3, 4, OTHER_DIFFICULTY}
+                : new int[]{difficultyIndex(difficulty)};
+
+        int[] typeIndexes;
+        if (problemType == null || "전체".equals(problemType)) {
+            typeIndexes = new int[TYPES.length];
+            for (int i = 0; i < TYPES.length; i++) typeIndexes[i] = i;
+        } else {
+            int typeIndex = typeIndex(problemType);
+            if (typeIndex < 0) {
+                return Collections.emptyList();
+            }
+            typeIndexes = new int[]{typeIndex};
+        }
+
+        List<Long> keys = new ArrayList<>(minorUnitIds.size() * difficultyIndexes.length * typeIndexes.length);
+        for (Long unitId : new LinkedHashSet<>(minorUnitIds)) {
+            if (unitId == null) continue;
+            for (int d : difficultyIndexes) {
+                for (int t : typeIndexes) {
+                    keys.add(bucketKey(unitId, d, t));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static long bucketKey(ProblemCatalogRow row) {
+        long unitId = row.getMinorUnitId() != null ? row.getMinorUnitId() : 0L;
+        int typeIndex = row.getProblemType() != null ? row.getProblemType().ordinal() : 0;
+        return bucketKey(unitId, difficultyIndex(row.getDifficulty()), typeIndex);
+    }
+
+    private static long bucketKey(long minorUnitId, int difficultyIndex, int typeIndex) {
+        return (minorUnitId << 8) | ((long) difficultyIndex << 4) | typeIndex;
+    }
+
+    static int difficultyIndex(String difficulty) {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equals(difficulty)) {
+                return i;
+            }
+        }
+        return OTHER_DIFFICULTY;
+    }
+
+    private static int typeIndex(String problemType) {
+        for (Problem.ProblemType type : TYPES) {
+            if (type.name().equals(problemType)) {
+                return type.ordinal();
+            }
+        }
+        return -1;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
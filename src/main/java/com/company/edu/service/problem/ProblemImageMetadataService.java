@@ -0,0 +1,255 @@
+package com.company.edu.service.problem;
+
+import com.company.edu.dto.worksheet.ProblemImageRow;
+import com.company.edu.entity.problem.Problem;
+import com.company.edu.repository.ProblemRepository;
+import com.company.edu.service.pdf.ImagePathService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 문제 이미지 메타데이터 (너비/높이/바이트 수/내용 해시)
+ *
+ * 크기는 이미지 헤더만 읽어서 구하므로 디코딩하지 않는다.
+ * 메타데이터가 채워진 문제는 PDF 레이아웃을 산술 계산만으로 잡을 수 있다.
+ * 이미지 파일이 같은 경로에서 교체되는 경우를 위해 저장된 바이트 수/해시를 주기적으로 파일과 비교해 다시 채운다.
+ */
+@Service
+@Slf4j
+public class ProblemImageMetadataService {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final ProblemRepository problemRepository;
+    private final ImagePathService imagePathService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.image-metadata.backfill-enabled:true}")
+    private boolean backfillEnabled;
+
+    @Value("${app.image-metadata.revalidate-enabled:true}")
+    private boolean revalidateEnabled;
+
+    // 직전 재검증 시작 시각 (null이면 기동 후 첫 실행이라 모든 파일의 해시를 비교)
+    private Instant lastRevalidationStart;
+
+    public ProblemImageMetadataService(ProblemRepository problemRepository,
+                                       ImagePathService imagePathService,
+                                       PlatformTransactionManager transactionManager) {
+        this.problemRepository = problemRepository;
+        this.imagePathService = imagePathService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이미지 메타데이터
+     */
+    public record ImageMetadata(int width, int height, long bytes, String hash) {
+    }
+
+    /**
+     * 문제 등록/이미지 교체 시 메타데이터 채우기
+     */
+    public void applyTo(Problem problem) {
+        if (problem.getImagePath() == null) {
+            return;
+        }
+        try {
+            ImageMetadata metadata = read(Paths.get(imagePathService.getFullFilePath(problem.getImagePath())));
+            problem.setImageWidth(metadata.width());
+            problem.setImageHeight(metadata.height());
+            problem.setImageBytes(metadata.bytes());
+            problem.setImageHash(metadata.hash());
+        } catch (IOException e) {
+            log.warn("이미지 메타데이터 읽기 실패: problemId={}, path={}", problem.getId(), problem.getImagePath(), e);
+        }
+    }
+
+    /**
+     * 메타데이터가 없는 문제를 ID 순으로 배치 처리
+     * 파일이 없거나 읽을 수 없는 문제는 건너뛰고 다음 실행에서 다시 시도한다.
+     */
+    @Scheduled(initialDelayString = "${app.image-metadata.backfill-initial-delay-ms:60000}",
+            fixedDelayString = "${app.image-metadata.backfill-interval-ms:600000}")
+    public void backfill() {
+        if (!backfillEnabled) {
+            return;
+        }
+
+        long afterId = 0L;
+        int updated = 0;
+        int skipped = 0;
+
+        while (true) {
+            List<ProblemImageRow> rows = problemRepository.findProblemsMissingImageMetadata(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            int batchUpdated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (ProblemImageRow row : rows) {
+                    ImageMetadata metadata = readQuietly(row);
+                    if (metadata == null) continue;
+                    count += problemRepository.updateImageMetadata(row.getId(), metadata.width(), metadata.height(),
+                            metadata.bytes(), metadata.hash());
+                }
+                return count;
+            });
+
+            updated += batchUpdated;
+            skipped += rows.size() - batchUpdated;
+            afterId = rows.get(rows.size() - 1).getId();
+
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (updated > 0 || skipped > 0) {
+            log.info("이미지 메타데이터 백필 완료: 갱신={}, 건너뜀={}", updated, skipped);
+        }
+    }
+
+    /**
+     * 메타데이터가 있는 문제의 이미지 파일 재검증
+     * 파일 크기가 저장된 image_bytes와 다르거나 직전 실행 이후 수정된 파일만 다시 읽고,
+     * 해시가 달라졌으면 크기까지 교체한다. 기동 후 첫 실행은 중단 중 교체분을 잡기 위해 전부 해시를 비교한다.
+     */
+    @Scheduled(initialDelayString = "${app.image-metadata.revalidate-initial-delay-ms:120000}",
+            fixedDelayString = "${app.image-metadata.revalidate-interval-ms:3600000}")
+    public synchronized void revalidate() {
+        if (!revalidateEnabled) {
+            return;
+        }
+
+        Instant since = lastRevalidationStart;
+        Instant start = Instant.now();
+        long afterId = 0L;
+        int checked = 0;
+        int replaced = 0;
+
+        while (true) {
+            List<ProblemImageRow> rows = problemRepository.findProblemsWithImageMetadata(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            for (ProblemImageRow row : rows) {
+                Path path = Paths.get(imagePathService.getFullFilePath(row.getImagePath()));
+                if (!mayHaveChanged(row, path, since)) continue;
+                checked++;
+
+                ImageMetadata metadata = readQuietly(row);
+                if (metadata == null || metadata.hash().equals(row.getImageHash())) continue;
+
+                log.info("이미지 파일 변경 감지: problemId={}, path={}", row.getId(), row.getImagePath());
+                Integer count = transactionTemplate.execute(status -> problemRepository.replaceImageMetadata(row.getId(),
+                        metadata.width(), metadata.height(), metadata.bytes(), metadata.hash(), LocalDateTime.now()));
+                replaced += count != null ? count : 0;
+            }
+
+            afterId = rows.get(rows.size() - 1).getId();
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        lastRevalidationStart = start;
+        if (replaced > 0) {
+            log.info("이미지 메타데이터 재검증 완료: 확인={}, 교체={}", checked, replaced);
+        }
+    }
+
+    /**
+     * 다시 읽어볼 필요가 있는 파일인지 (크기/수정 시각만 확인)
+     */
+    private boolean mayHaveChanged(ProblemImageRow row, Path path, Instant since) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return false;
+            }
+            return since == null
+                    || row.getImageBytes() == null
+                    || attributes.size() != row.getImageBytes()
+                    || !attributes.lastModifiedTime().toInstant().isBefore(since);
+        } catch (IOException e) {
+            // 파일이 없으면 기존 메타데이터 유지 (PDF는 빈 박스로 그림)
+            return false;
+        }
+    }
+
+    private ImageMetadata readQuietly(ProblemImageRow row) {
+        Path path = Paths.get(imagePathService.getFullFilePath(row.getImagePath()));
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            return read(path);
+        } catch (IOException e) {
+            log.warn("이미지 메타데이터 읽기 실패: problemId={}, path={}", row.getId(), path, e);
+            return null;
+        }
+    }
+
+    /**
+     * 헤더에서 크기를 읽고 파일 전체로 SHA-256 해시 계산
+     */
+    public ImageMetadata read(Path path) throws IOException {
+        int width;
+        int height;
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식: " + path);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                width = reader.getWidth(0);
+                height = reader.getHeight(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        return new ImageMetadata(width, height, Files.size(path), sha256(path));
+    }
+
+    private static String sha256(Path path) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
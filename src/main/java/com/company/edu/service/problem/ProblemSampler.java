@@ -0,0 +1,131 @@
+package com.company.edu.service.problem;
+
+import com.company.edu.dto.worksheet.ProblemDTO;
+import com.company.edu.dto.worksheet.ProblemSampleView;
+import com.company.edu.repository.ProblemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 난이도별 층화 표본 추출기
+ *
+ * 1) 카탈로그 인덱스에서 SQL 없이, 인덱스가 준비되지 않았으면 한 번의 쿼리로
+ *    난이도 파티션마다 랜덤 순서의 (ID, 난이도)만 가져오고
+ * 2) 난이도별 목표 개수만큼 당첨 ID를 고른 뒤 부족분은 남은 후보에서 보충하고
+ * 3) 당첨된 문제만 DTO로 하이드레이션한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ProblemSampler {
+
+    private final ProblemRepository problemRepository;
+    private final ProblemCatalogIndex catalogIndex;
+
+    /**
+     * 난이도별 목표에 맞춰 문제 선택
+     * @param difficultyTargets 난이도별 목표 개수 (순서 유지)
+     * @return 난이도 순서대로 정렬된 선택 문제 (부족분 보충 문제는 뒤에 붙음)
+     */
+    public List<ProblemDTO> sample(List<Long> minorUnitIds, Map<String, Integer> difficultyTargets, String problemType) {
+        int totalTarget = difficultyTargets.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalTarget <= 0) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Deque<Long>> byDifficulty = catalogIndex.isReady()
+                ? candidatesFromCatalog(minorUnitIds, problemType, totalTarget)
+                : candidatesFromDatabase(minorUnitIds, problemType, totalTarget);
+
+        List<Long> selectedIds = selectIds(byDifficulty, difficultyTargets, totalTarget);
+        return hydrate(selectedIds);
+    }
+
+    /**
+     * 카탈로그 인덱스에서 난이도별 랜덤 후보 추출 (SQL 없음)
+     */
+    private Map<String, Deque<Long>> candidatesFromCatalog(List<Long> minorUnitIds, String problemType, int perDifficultyLimit) {
+        Map<String, Deque<Long>> byDifficulty = new HashMap<>();
+        for (String difficulty : ProblemCatalogIndex.DIFFICULTIES) {
+            long[] candidates = catalogIndex.candidates(minorUnitIds, difficulty, problemType);
+            byDifficulty.put(difficulty, new ArrayDeque<>(ProblemCatalogIndex.sample(candidates, perDifficultyLimit, null)));
+        }
+        return byDifficulty;
+    }
+
+    /**
+     * 난이도 파티션별 랜덤 후보를 한 번의 쿼리로 조회
+     */
+    private Map<String, Deque<Long>> candidatesFromDatabase(List<Long> minorUnitIds, String problemType, int perDifficultyLimit) {
+        // 파티션당 최대 totalTarget개면 어떤 난이도에서 부족분을 보충하더라도 충분하다
+        List<ProblemSampleView> candidates = problemRepository.sampleProblemIdsByDifficulty(minorUnitIds, problemType, perDifficultyLimit);
+
+        Map<String, Deque<Long>> byDifficulty = new HashMap<>();
+        for (ProblemSampleView candidate : candidates) {
+            byDifficulty.computeIfAbsent(candidate.getDifficulty(), d -> new ArrayDeque<>()).add(candidate.getId());
+        }
+        return byDifficulty;
+    }
+
+    /**
+     * 난이도 버킷(이미 랜덤 순서)에서 목표 개수만큼 꺼내고, 부족하면 남은 후보를 섞어 보충
+     */
+    static List<Long> selectIds(Map<String, Deque<Long>> byDifficulty, Map<String, Integer> difficultyTargets, int totalTarget) {
+        List<Long> selectedIds = new ArrayList<>(totalTarget);
+
+        for (Map.Entry<String, Integer> entry : difficultyTargets.entrySet()) {
+            String difficulty = entry.getKey();
+            int targetCount = entry.getValue();
+            if (targetCount <= 0) continue;
+
+            Deque<Long> bucket = byDifficulty.getOrDefault(difficulty, new ArrayDeque<>());
+            int selectCount = Math.min(targetCount, bucket.size());
+            for (int i = 0; i < selectCount; i++) {
+                selectedIds.add(bucket.poll());
+            }
+
+            if (selectCount < targetCount) {
+                log.debug("난이도 '{}' 문제 부족: 요청={}, 실제={}", difficulty, targetCount, selectCount);
+            }
+        }
+
+        int shortage = totalTarget - selectedIds.size();
+        if (shortage > 0) {
+            List<Long> leftovers = byDifficulty.values().stream()
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toList());
+            Collections.shuffle(leftovers);
+            selectedIds.addAll(leftovers.subList(0, Math.min(shortage, leftovers.size())));
+        }
+
+        return selectedIds;
+    }
+
+    /**
+     * 당첨된 ID만 DTO로 조회하고 선택 순서를 유지
+     */
+    public List<ProblemDTO> hydrate(List<Long> selectedIds) {
+        if (selectedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, ProblemDTO> dtoById = problemRepository.findProblemDtosByIds(selectedIds).stream()
+                .collect(Collectors.toMap(ProblemDTO::getId, Function.identity(), (a, b) -> a));
+
+        List<ProblemDTO> result = new ArrayList<>(selectedIds.size());
+        for (Long id : selectedIds) {
+            ProblemDTO dto = dtoById.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,231 @@
+package com.company.edu.service.stats;
+
+import com.company.edu.dto.stats.CalibrationResult;
+import com.company.edu.dto.stats.CalibrationRow;
+import com.company.edu.repository.ProblemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 풀이 통계 기반 난이도 보정 / 출제 경향 계산
+ *
+ * 문제와 통계를 소단원 순으로 스트리밍하면서 소단원 하나씩 계산하고, 바뀐 행만 chunk-size 단위로 배치 UPDATE 한다.
+ * 보정 난이도는 소단원 안에서의 백분위 구간이다. 시도 수가 적은 문제는 소단원 평균 쪽으로 당긴 정답률(베이지안 평균)로 순위를 매기고,
+ * 소단원의 기존 난이도 구성 비율을 그대로 유지한 채 정답률이 높은 문제부터 "하" 쪽 등급을 준다.
+ * 시도 수가 min-attempts 미만인 문제는 원래 난이도를 그대로 쓴다.
+ * 원래 난이도가 없거나 알 수 없는 값이면 "중"으로 채워서 보정값이 null로 남지 않게 한다 (calibrateMissing 반복 방지).
+ */
+@Service
+@Slf4j
+public class DifficultyCalibrationJob {
+
+    static final String[] DIFFICULTIES = {"하", "중하", "중", "상", "최상"};
+
+    private final ProblemRepository problemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.calibration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.calibration.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.calibration.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.calibration.min-attempts:30}")
+    private long minAttempts;
+
+    @Value("${app.calibration.prior-weight:20}")
+    private double priorWeight;
+
+    @Value("${app.calibration.trend.basic-rate:80}")
+    private int basicRate;
+
+    @Value("${app.calibration.trend.new-rate:60}")
+    private int newRate;
+
+    public DifficultyCalibrationJob(ProblemRepository problemRepository, PlatformTransactionManager transactionManager) {
+        this.problemRepository = problemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 매일 전체 재계산
+     */
+    @Scheduled(cron = "${app.calibration.cron:0 0 3 * * *}")
+    public void scheduledRecalibration() {
+        if (enabled) {
+            recalibrate();
+        }
+    }
+
+    /**
+     * 보정값이 없는 문제(신규 등록, 첫 배포)가 있으면 전체 계산
+     */
+    @Scheduled(initialDelayString = "${app.calibration.missing-check-initial-delay-ms:60000}",
+            fixedDelayString = "${app.calibration.missing-check-interval-ms:600000}")
+    public void calibrateMissing() {
+        if (enabled && problemRepository.existsByCalibratedDifficultyIsNull()) {
+            recalibrate();
+        }
+    }
+
+    /**
+     * 전체 재계산 (이미 실행 중이면 건너뜀)
+     *
+     * @return 갱신된 문제 수, 건너뛰었으면 -1
+     */
+    public int recalibrate() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("난이도 보정이 이미 실행 중");
+            return -1;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Batch batch = new Batch();
+            problemRepository.streamCalibrationRows(fetchSize, batch::accept);
+            batch.finish();
+
+            log.info("난이도 보정 완료: 문제={}, 소단원={}, 갱신={}, 소요={}ms",
+                    batch.rows, batch.units, batch.updated, System.currentTimeMillis() - start);
+            return batch.updated;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 스트리밍 중 상태 (소단원 하나 분량의 행과 아직 쓰지 않은 결과)
+     */
+    private final class Batch {
+        final List<CalibrationRow> unitRows = new ArrayList<>();
+        final List<CalibrationResult> pending = new ArrayList<>();
+        Long currentUnitId;
+        int rows;
+        int units;
+        int updated;
+
+        void accept(CalibrationRow row) {
+            if (currentUnitId != null && !currentUnitId.equals(row.minorUnitId())) {
+                completeUnit();
+            }
+            currentUnitId = row.minorUnitId();
+            unitRows.add(row);
+            rows++;
+        }
+
+        void finish() {
+            if (!unitRows.isEmpty()) {
+                completeUnit();
+            }
+            write();
+        }
+
+        private void completeUnit() {
+            pending.addAll(calibrateUnit(unitRows));
+            unitRows.clear();
+            units++;
+            if (pending.size() >= chunkSize) {
+                write();
+            }
+        }
+
+        private void write() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<CalibrationResult> chunk = List.copyOf(pending);
+            transactionTemplate.executeWithoutResult(status -> problemRepository.batchUpdateCalibration(chunk));
+            updated += chunk.size();
+            pending.clear();
+        }
+    }
+
+    /**
+     * 소단원 하나 계산 (값이 바뀐 문제만 반환)
+     */
+    private List<CalibrationResult> calibrateUnit(List<CalibrationRow> rows) {
+        long unitAttempts = 0;
+        long unitCorrect = 0;
+        for (CalibrationRow row : rows) {
+            unitAttempts += row.attempts();
+            unitCorrect += row.correctAttempts();
+        }
+        double prior = unitAttempts > 0 ? (double) unitCorrect / unitAttempts : 0.5;
+
+        // 시도 수가 충분한 문제만 정답률 순으로 재배치
+        List<CalibrationRow> ranked = new ArrayList<>();
+        int[] labelCounts = new int[DIFFICULTIES.length];
+        for (CalibrationRow row : rows) {
+            if (row.attempts() >= minAttempts) {
+                ranked.add(row);
+                labelCounts[difficultyIndex(row.difficulty())]++;
+            }
+        }
+        Comparator<CalibrationRow> easiestFirst = Comparator.comparingDouble((CalibrationRow row) -> smoothedRate(row, prior))
+                .reversed()
+                .thenComparing(CalibrationRow::problemId);
+        ranked.sort(easiestFirst);
+
+        Map<Long, String> calibrated = new HashMap<>(ranked.size() * 2);
+        int label = 0;
+        for (CalibrationRow row : ranked) {
+            while (labelCounts[label] == 0) {
+                label++;
+            }
+            labelCounts[label]--;
+            calibrated.put(row.problemId(), DIFFICULTIES[label]);
+        }
+
+        List<CalibrationResult> changed = new ArrayList<>();
+        for (CalibrationRow row : rows) {
+            String difficulty = calibrated.getOrDefault(row.problemId(), DIFFICULTIES[difficultyIndex(row.difficulty())]);
+            String trend = trend(row.correctRate());
+            if (!Objects.equals(difficulty, row.calibratedDifficulty()) || !Objects.equals(trend, row.trend())) {
+                changed.add(new CalibrationResult(row.problemId(), difficulty, trend));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 시도 수가 적을수록 소단원 평균에 가까워지는 정답률
+     */
+    private double smoothedRate(CalibrationRow row, double prior) {
+        return (row.correctAttempts() + priorWeight * prior) / (row.attempts() + priorWeight);
+    }
+
+    /**
+     * 출제 경향 (정답률 기준, 통계가 없으면 0%로 봄)
+     */
+    private String trend(BigDecimal correctRate) {
+        int rate = correctRate != null ? correctRate.intValue() : 0;
+        if (rate >= basicRate) {
+            return "기본";
+        }
+        if (rate <= newRate) {
+            return "신경향";
+        }
+        return "표준";
+    }
+
+    private static int difficultyIndex(String difficulty) {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equals(difficulty)) {
+                return i;
+            }
+        }
+        return 2; // null이나 알 수 없는 값은 "중"으로
+    }
+}
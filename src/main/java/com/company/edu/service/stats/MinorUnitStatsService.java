@@ -0,0 +1,96 @@
+package com.company.edu.service.stats;
+
+import com.company.edu.entity.problem.MinorUnitStats;
+import com.company.edu.repository.MinorUnitStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 소단원 집계 조회/재집계
+ *
+ * 학습지 통계와 추가 가능한 문제 수를 문제 전체 집계 대신 소단원 수만큼의 PK 조회로 계산한다.
+ * 문제 등록/삭제는 앱 밖(일괄 적재)에서 일어나므로 문제 수는 rebuild-interval-ms 주기로 다시 집계하고,
+ * 정답률은 ProblemStatsAggregator가 통계를 반영할 때 같은 트랜잭션에서 갱신한다.
+ * 첫 재집계가 끝나기 전에는 isReady()가 false이고 호출하는 쪽은 기존 쿼리를 쓴다.
+ */
+@Service
+@Slf4j
+public class MinorUnitStatsService {
+
+    private final MinorUnitStatsRepository minorUnitStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile boolean ready;
+
+    public MinorUnitStatsService(MinorUnitStatsRepository minorUnitStatsRepository, PlatformTransactionManager transactionManager) {
+        this.minorUnitStatsRepository = minorUnitStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.unit-stats.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.unit-stats.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재집계 (문제 일괄 적재 후 호출)
+     */
+    public synchronized void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Integer units = transactionTemplate.execute(status -> minorUnitStatsRepository.rebuildAll(LocalDateTime.now()));
+            ready = true;
+            log.info("소단원 집계 완료: 소단원={}, 소요={}ms", units, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("소단원 집계 실패", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 소단원들의 평균 정답률 (통계가 있는 문제 기준, 없으면 null)
+     */
+    public Double averageCorrectRate(Collection<Long> minorUnitIds) {
+        long rated = 0;
+        long rateSum = 0;
+        for (MinorUnitStats stats : find(minorUnitIds)) {
+            rated += stats.getRatedCount();
+            rateSum += stats.getCorrectRateSum();
+        }
+        return rated > 0 ? (double) rateSum / rated : null;
+    }
+
+    /**
+     * 소단원들의 유형별 문제 수 (null 또는 "전체"면 전체)
+     */
+    public long countProblems(Collection<Long> minorUnitIds, String problemType) {
+        long count = 0;
+        for (MinorUnitStats stats : find(minorUnitIds)) {
+            count += stats.countByType(problemType);
+        }
+        return count;
+    }
+
+    private List<MinorUnitStats> find(Collection<Long> minorUnitIds) {
+        return minorUnitIds.isEmpty() ? List.of() : minorUnitStatsRepository.findAllById(Set.copyOf(minorUnitIds));
+    }
+}
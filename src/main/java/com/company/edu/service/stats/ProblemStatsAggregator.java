@@ -0,0 +1,340 @@
+package com.company.edu.service.stats;
+
+import com.company.edu.dto.stats.ProblemStatsDelta;
+import com.company.edu.repository.MinorUnitStatsRepository;
+import com.company.edu.repository.ProblemStatsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 문제 풀이 통계 집계
+ *
+ * 채점 결과는 문제별 LongAdder에 더하고(락 없음), 같은 내용을 구간(segment) 저널 파일에 append 한다.
+ * flush-interval-ms마다 새 구간으로 바꾼 뒤 이전 구간의 합계를 problem_stats에 배치 UPSERT 하고,
+ * 같은 트랜잭션에서 해당 문제들이 속한 소단원 정답률 집계(minor_unit_stats)도 갱신하고, 커밋이 끝나야 그 구간의 저널을 지운다. 비정상 종료로 남은 저널은 시작할 때 다시 읽어 반영한다.
+ * (커밋 직후 저널 삭제 전에 죽으면 그 구간이 한 번 더 반영될 수 있음)
+ * 배치가 무결성 오류(삭제된 문제 등)로 실패하면 한 건씩 다시 반영하고, 실패한 문제만 로그를 남기고 버린다.
+ * DB 장애로 밀린 구간은 max-pending-segments까지만 메모리에 두고, 넘치면 저널 파일만 남겨 다음 시작 때 복구한다.
+ */
+@Service
+@Slf4j
+public class ProblemStatsAggregator {
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int RECORD_SIZE = Long.BYTES + 1; // problemId + 정답 여부
+
+    private final ProblemStatsRepository problemStatsRepository;
+    private final MinorUnitStatsRepository minorUnitStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Path journalDir;
+    private final int maxPendingSegments;
+
+    private volatile Segment current;
+
+    // DB 반영에 실패해서 다음 flush 때 다시 시도할 구간
+    private final Deque<Segment> pending = new ArrayDeque<>();
+
+    public ProblemStatsAggregator(ProblemStatsRepository problemStatsRepository,
+                                  MinorUnitStatsRepository minorUnitStatsRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.stats.journal-dir:./data/stats-journal}") String journalDir,
+                                  @Value("${app.stats.max-pending-segments:720}") int maxPendingSegments) {
+        this.problemStatsRepository = problemStatsRepository;
+        this.minorUnitStatsRepository = minorUnitStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.journalDir = Paths.get(journalDir).toAbsolutePath().normalize();
+        this.maxPendingSegments = maxPendingSegments;
+    }
+
+    private static final class Counter {
+        final LongAdder attempts = new LongAdder();
+        final LongAdder correct = new LongAdder();
+    }
+
+    /**
+     * 저널 파일 하나와 그 구간의 합계
+     * writers가 0이 되고 sealed이면 더 이상 쓰는 스레드가 없음
+     * (LongAdder.sum()은 원자적 스냅샷이 아니라 쓰는 중에도 0으로 보일 수 있으므로 AtomicInteger)
+     */
+    private static final class Segment {
+        final Path file;
+        final FileChannel channel;
+        final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+        final AtomicInteger writers = new AtomicInteger();
+        volatile boolean sealed;
+
+        Segment(Path file) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+
+        /**
+         * 여러 건을 한 번의 write로 저널에 남긴 뒤 합계에 더함
+         */
+        void append(Map<Long, Boolean> attempts) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * attempts.size());
+            attempts.forEach((problemId, correct) -> buffer.putLong(problemId).put((byte) (correct ? 1 : 0)));
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            attempts.forEach((problemId, correct) -> {
+                Counter counter = counters.get(problemId);
+                if (counter == null) {
+                    counter = counters.computeIfAbsent(problemId, k -> new Counter());
+                }
+                counter.attempts.increment();
+                if (correct) {
+                    counter.correct.increment();
+                }
+            });
+        }
+
+        List<ProblemStatsDelta> deltas() {
+            List<ProblemStatsDelta> deltas = new ArrayList<>(counters.size());
+            counters.forEach((problemId, counter) ->
+                    deltas.add(new ProblemStatsDelta(problemId, counter.attempts.sum(), counter.correct.sum())));
+            // 여러 서버가 같은 행을 갱신할 때 잠금 순서를 맞춰 교착을 피함
+            deltas.sort(Comparator.comparing(ProblemStatsDelta::problemId));
+            return deltas;
+        }
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(journalDir);
+        current = newSegment();
+    }
+
+    /**
+     * 이전 실행에서 반영하지 못한 저널 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<Path> leftovers;
+        try (Stream<Path> files = Files.list(journalDir)) {
+            Path active = current.file;
+            leftovers = files.filter(file -> file.getFileName().toString().endsWith(JOURNAL_SUFFIX))
+                    .filter(file -> !file.equals(active))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            log.error("문제 통계 저널 목록 조회 실패: {}", journalDir, e);
+            return;
+        }
+
+        for (Path file : leftovers) {
+            try {
+                List<ProblemStatsDelta> deltas = replay(file);
+                applyIsolating(deltas);
+                Files.delete(file);
+                log.info("문제 통계 저널 복구: {} (문제 {}개)", file.getFileName(), deltas.size());
+            } catch (Exception e) {
+                log.error("문제 통계 저널 복구 실패, 다음 시작 시 재시도: {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 채점 결과 1건 기록
+     */
+    public void record(long problemId, boolean correct) {
+        recordAll(Map.of(problemId, correct));
+    }
+
+    /**
+     * 답안지 한 장의 채점 결과 기록 (problemId -> 정답 여부)
+     */
+    public void recordAll(Map<Long, Boolean> attempts) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+        while (true) {
+            Segment segment = current;
+            segment.writers.incrementAndGet();
+            try {
+                if (segment.sealed) {
+                    continue; // flush가 구간을 바꾸는 중, 새 구간에 기록
+                }
+                segment.append(attempts);
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException("문제 통계 저널 기록 실패", e);
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 저널을 디스크에 강제 기록 (OS 장애 대비, 프로세스 종료만이면 write로 충분)
+     */
+    @Scheduled(fixedDelayString = "${app.stats.journal.sync-interval-ms:1000}")
+    public void syncJournal() {
+        try {
+            current.channel.force(false);
+        } catch (IOException e) {
+            log.warn("문제 통계 저널 fsync 실패", e);
+        }
+    }
+
+    /**
+     * 구간 교체 후 이전 구간 합계를 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${app.stats.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Segment sealed = rotate();
+        if (sealed != null) {
+            pending.addLast(sealed);
+        }
+        while (pending.size() > maxPendingSegments) {
+            // 저널 파일은 남아 있으므로 다음 시작 때 recover()가 반영
+            Segment dropped = pending.pollFirst();
+            log.error("문제 통계 대기 구간 초과, 저널만 남기고 메모리에서 제외: {}", dropped.file);
+        }
+
+        while (!pending.isEmpty()) {
+            Segment segment = pending.peekFirst();
+            List<ProblemStatsDelta> deltas = segment.deltas();
+            try {
+                if (!deltas.isEmpty()) {
+                    applyIsolating(deltas);
+                }
+                Files.deleteIfExists(segment.file);
+                pending.pollFirst();
+                log.debug("문제 통계 반영: 문제 {}개", deltas.size());
+            } catch (Exception e) {
+                log.warn("문제 통계 반영 실패, 다음 주기에 재시도 (대기 구간 {}개)", pending.size(), e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        try {
+            current.channel.close();
+            if (Files.size(current.file) == 0) {
+                Files.deleteIfExists(current.file);
+            }
+        } catch (IOException e) {
+            log.warn("문제 통계 저널 닫기 실패", e);
+        }
+    }
+
+    /**
+     * 새 구간으로 교체하고 이전 구간에 쓰던 스레드가 모두 끝날 때까지 대기
+     *
+     * @return 닫힌 이전 구간 (기록이 없으면 파일을 지우고 null)
+     */
+    private Segment rotate() {
+        Segment previous = current;
+        try {
+            if (previous.counters.isEmpty() && previous.writers.get() == 0) {
+                return null;
+            }
+            current = newSegment();
+        } catch (IOException e) {
+            log.error("문제 통계 저널 구간 생성 실패", e);
+            return null;
+        }
+
+        previous.sealed = true;
+        while (previous.writers.get() != 0) {
+            Thread.onSpinWait();
+        }
+
+        try {
+            previous.channel.force(false);
+            previous.channel.close();
+        } catch (IOException e) {
+            log.warn("문제 통계 저널 닫기 실패: {}", previous.file, e);
+        }
+        return previous;
+    }
+
+    /**
+     * 배치 반영, 무결성 오류면 한 건씩 다시 반영하고 실패한 건은 버림
+     * (그 외 오류는 그대로 던져서 구간 전체를 다음에 재시도)
+     */
+    private void applyIsolating(List<ProblemStatsDelta> deltas) {
+        try {
+            apply(deltas);
+            return;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("문제 통계 배치 반영 실패, 한 건씩 재시도 (문제 {}개): {}", deltas.size(), e.getMostSpecificCause().getMessage());
+        }
+
+        int skipped = 0;
+        for (ProblemStatsDelta delta : deltas) {
+            try {
+                apply(List.of(delta));
+            } catch (DataIntegrityViolationException e) {
+                skipped++;
+                log.warn("문제 통계 반영 불가, 건너뜀: problemId={}, 시도={}, 정답={}",
+                        delta.problemId(), delta.attempts(), delta.correctAttempts());
+            }
+        }
+        log.info("문제 통계 한 건씩 반영 완료: 반영={}, 건너뜀={}", deltas.size() - skipped, skipped);
+    }
+
+    /**
+     * 문제 통계 UPSERT + 소단원 정답률 집계 갱신 (한 트랜잭션)
+     */
+    private void apply(List<ProblemStatsDelta> deltas) {
+        List<Long> problemIds = new ArrayList<>(deltas.size());
+        for (ProblemStatsDelta delta : deltas) {
+            problemIds.add(delta.problemId());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            problemStatsRepository.batchUpsert(deltas);
+            minorUnitStatsRepository.refreshCorrectRates(problemIds, LocalDateTime.now());
+        });
+    }
+
+    private Segment newSegment() throws IOException {
+        return new Segment(journalDir.resolve(System.currentTimeMillis() + "-" + UUID.randomUUID() + JOURNAL_SUFFIX));
+    }
+
+    /**
+     * 저널 파일을 다시 합산 (마지막에 잘린 레코드는 무시)
+     */
+    private static List<ProblemStatsDelta> replay(Path file) throws IOException {
+        Map<Long, long[]> totals = new TreeMap<>();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        while (buffer.remaining() >= RECORD_SIZE) {
+            long[] total = totals.computeIfAbsent(buffer.getLong(), k -> new long[2]);
+            total[0]++;
+            if (buffer.get() != 0) {
+                total[1]++;
+            }
+        }
+
+        List<ProblemStatsDelta> deltas = new ArrayList<>(totals.size());
+        totals.forEach((problemId, total) -> deltas.add(new ProblemStatsDelta(problemId, total[0], total[1])));
+        return deltas;
+    }
+}
@@ -1,5 +1,6 @@
 package com.company.edu.service.user;
 
+import com.company.edu.dto.auth.TokenResponse;
 import com.company.edu.dto.user.LoginRequestDto;
 import com.company.edu.dto.user.SearchIdRequestDto;
 import com.company.edu.dto.user.SearchPwdRequestDto;
@@ -7,7 +8,11 @@ import com.company.edu.dto.user.SignUpRequestDto;
 
 public interface AuthService {
 
-    public String login(LoginRequestDto dto);
+    public TokenResponse login(LoginRequestDto dto);
+
+    public TokenResponse refresh(String refreshToken);
+
+    public void logout(String refreshToken, String accessToken);
 
     public Long signUp(SignUpRequestDto dto);
 
@@ -3,11 +3,15 @@ package com.company.edu.service.user;
 import com.company.edu.common.code.error.UserErrorCode;
 import com.company.edu.common.customException.RestApiException;
 import com.company.edu.config.user.CustomUserDetails;
+import com.company.edu.dto.auth.TokenResponse;
 import com.company.edu.dto.user.*;
 import com.company.edu.entity.user.Member;
 import com.company.edu.entity.user.RoleType;
 import com.company.edu.repository.user.MemberRepository;
+import com.company.edu.service.auth.RefreshTokenService;
+import com.company.edu.service.auth.TokenRevocationService;
 import com.company.edu.util.JwtUtil;
+import com.company.edu.util.TokenVerification;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
@@ -31,11 +35,13 @@ public class AuthServiceImpl implements AuthService{
     private final MemberRepository memberRepository;
     private final PasswordEncoder encoder;
     private final ModelMapper modelMapper;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
 
     @Override
     @Transactional
-    public String login(LoginRequestDto dto) {
+    public TokenResponse login(LoginRequestDto dto) {
         String email = dto.getEmail();
         String password = dto.getPassword();
         Member member = memberRepository.findMemberByEmail(email);
@@ -48,10 +54,40 @@ public class AuthServiceImpl implements AuthService{
             throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
         }
 
-        CustomUserInfoDto info = modelMapper.map(member, CustomUserInfoDto.class);
+        return issueTokens(member, refreshTokenService.issue(member));
+    }
+
+    /**
+     * 리프레시 토큰으로 재발급 (리프레시 토큰도 새로 바뀜)
+     */
+    @Override
+    @Transactional(noRollbackFor = RestApiException.class)
+    public TokenResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        return issueTokens(rotation.member(), rotation.refreshToken());
+    }
+
+    /**
+     * 로그아웃 (리프레시 토큰 family와 현재 액세스 토큰 폐기)
+     */
+    @Override
+    @Transactional
+    public void logout(String refreshToken, String accessToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revokeFamilyOf(refreshToken);
+        }
+        if (accessToken != null) {
+            TokenVerification verification = jwtUtil.verify(accessToken);
+            if (verification.isValid()) {
+                tokenRevocationService.revokeAccessToken(verification.claims());
+            }
+        }
+    }
 
-        String accessToken = jwtUtil.createAccessToken(info);
-        return accessToken;
+    private TokenResponse issueTokens(Member member, String refreshToken) {
+        CustomUserInfoDto info = modelMapper.map(member, CustomUserInfoDto.class);
+        int tokenVersion = member.getTokenVersion() == null ? 0 : member.getTokenVersion();
+        return new TokenResponse(jwtUtil.createAccessToken(info, tokenVersion), refreshToken);
     }
 
     @Override
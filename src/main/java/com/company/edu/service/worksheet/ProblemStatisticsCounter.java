@@ -0,0 +1,87 @@
+package com.company.edu.service.worksheet;
+
+import com.company.edu.dto.worksheet.ProblemDTO;
+import com.company.edu.dto.worksheet.SavedWorksheetResponseDto;
+import com.company.edu.dto.worksheet.WorksheetResponse;
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * 학습지 문제 통계(유형별 개수, 난이도 분포)를 한 번의 순회로 집계
+ */
+@Getter
+public class ProblemStatisticsCounter {
+
+    private int total;
+    private int multipleChoice;
+    private int subjective;
+    private int shortAnswer;
+    private int low;
+    private int mediumLow;
+    private int medium;
+    private int high;
+    private int veryHigh;
+
+    public static ProblemStatisticsCounter of(Collection<ProblemDTO> problems) {
+        ProblemStatisticsCounter counter = new ProblemStatisticsCounter();
+        for (ProblemDTO problem : problems) {
+            counter.add(problem.getProblemType(), problem.getDifficulty());
+        }
+        return counter;
+    }
+
+    public void add(String problemType, String difficulty) {
+        total++;
+
+        if (problemType != null) {
+            switch (problemType) {
+                case "객관식": multipleChoice++; break;
+                case "주관식": subjective++; break;
+                case "서술형": shortAnswer++; break;
+                default: break;
+            }
+        }
+
+        if (difficulty != null) {
+            switch (difficulty) {
+                case "하": low++; break;
+                case "중하": mediumLow++; break;
+                case "중": medium++; break;
+                case "상": high++; break;
+                case "최상": veryHigh++; break;
+                default: break;
+            }
+        }
+    }
+
+    public void applyTo(WorksheetResponse.WorksheetStatistics statistics) {
+        statistics.setTotalProblems(total);
+        statistics.setMultipleChoice(multipleChoice);
+        statistics.setSubjective(subjective);
+        statistics.setShortAnswer(shortAnswer);
+
+        WorksheetResponse.DifficultyDistribution distribution = new WorksheetResponse.DifficultyDistribution();
+        distribution.setLow(low);
+        distribution.setMediumLow(mediumLow);
+        distribution.setMedium(medium);
+        distribution.setHigh(high);
+        distribution.setVeryHigh(veryHigh);
+        statistics.setDifficultyDistribution(distribution);
+    }
+
+    public void applyTo(SavedWorksheetResponseDto.WorksheetStatistics statistics) {
+        statistics.setTotalProblems(total);
+        statistics.setMultipleChoice(multipleChoice);
+        statistics.setSubjective(subjective);
+        statistics.setShortAnswer(shortAnswer);
+
+        SavedWorksheetResponseDto.DifficultyDistribution distribution = new SavedWorksheetResponseDto.DifficultyDistribution();
+        distribution.setLow(low);
+        distribution.setMediumLow(mediumLow);
+        distribution.setMedium(medium);
+        distribution.setHigh(high);
+        distribution.setVeryHigh(veryHigh);
+        statistics.setDifficultyDistribution(distribution);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -19,10 +20,14 @@ public class JwtUtil {
     private final Key key;
     private final long  accessTokenExpTime;
 
+    // 불변이고 스레드 안전하므로 한 번만 생성
+    private final JwtParser parser;
+
     public JwtUtil(@Value("${jwt.secret}") String secretKey, @Value("${jwt.expiration_time}") long accessTokenExpTime) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.accessTokenExpTime = accessTokenExpTime;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /**
@@ -32,27 +37,42 @@ public class JwtUtil {
      * @return Access Token String
      */
     public String createAccessToken(CustomUserInfoDto member) {
-        return createToken(member, this.accessTokenExpTime);
+        return createAccessToken(member, 0);
+    }
+
+    /**
+     * Access Token 생성 (회원 토큰 버전 포함)
+     *
+     * @param member
+     * @param tokenVersion 회원의 현재 토큰 버전 (이보다 높아지면 폐기된 토큰)
+     * @return Access Token String
+     */
+    public String createAccessToken(CustomUserInfoDto member, int tokenVersion) {
+        return createToken(member, tokenVersion, this.accessTokenExpTime);
     }
 
 
     /**
      * JWT 생성
      * @param member
+     * @param tokenVersion
      * @param expireTime
      * @return JWT String
      */
-    private String createToken(CustomUserInfoDto member, long expireTime) {
+    private String createToken(CustomUserInfoDto member, int tokenVersion, long expireTime) {
         Claims claims = Jwts.claims();
         claims.put("memberId", member.getMemberId());
         claims.put("email", member.getEmail());
+        claims.put("name", member.getName());
         claims.put("role", member.getRole());
+        claims.put("ver", tokenVersion);
 
         ZonedDateTime now = ZonedDateTime.now();
         ZonedDateTime tokenValidity = now.plusSeconds(expireTime);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(Date.from(now.toInstant()))
                 .setExpiration(Date.from(tokenValidity.toInstant()))
                 .signWith(this.key, SignatureAlgorithm.HS256)
@@ -70,38 +90,66 @@ public class JwtUtil {
 
 
     /**
-     * JWT 검증
+     * JWT 검증 (파싱/서명 검증 한 번으로 결과와 Claims를 함께 반환)
+     * 만료/위조 토큰은 재시도가 잦으므로 스택 트레이스 없이 debug로만 남긴다.
      * @param token
-     * @return IsValidate
+     * @return 검증 결과
      */
-    public boolean validateToken(String token) {
+    public TokenVerification verify(String token) {
+        // 형식이 맞지 않으면 파서까지 가지 않음 (header.payload.signature)
+        if (token == null || token.isBlank()) {
+            return TokenVerification.invalid("empty");
+        }
+        if (countDots(token) != 2) {
+            return TokenVerification.invalid("malformed");
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("Invalid JWT Token", e);
+            return TokenVerification.valid(parser.parseClaimsJws(token).getBody());
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT Token", e);
+            log.debug("Expired JWT Token");
+            return TokenVerification.expired(e.getClaims());
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            log.debug("Invalid JWT signature");
+            return TokenVerification.invalid("signature");
+        } catch (MalformedJwtException e) {
+            log.debug("Malformed JWT Token");
+            return TokenVerification.invalid("malformed");
         } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT Token", e);
-        } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.", e);
+            log.debug("Unsupported JWT Token");
+            return TokenVerification.invalid("unsupported");
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid JWT Token: {}", e.getMessage());
+            return TokenVerification.invalid("invalid");
         }
-        return false;
+    }
+
+    /**
+     * JWT 검증
+     * @param token
+     * @return IsValidate
+     */
+    public boolean validateToken(String token) {
+        return verify(token).isValid();
     }
 
 
     /**
-     * JWT Claims 추출
+     * JWT Claims 추출 (만료된 토큰도 Claims 반환, 유효하지 않으면 null)
      * @param accessToken
      * @return JWT Claims
      */
     public Claims parseClaims(String accessToken) {
-        try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+        return verify(accessToken).claims();
+    }
+
+    private static int countDots(String token) {
+        int dots = 0;
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) == '.') {
+                dots++;
+            }
         }
+        return dots;
     }
 }
-
@@ -0,0 +1,30 @@
+package com.company.edu.util;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 검증 결과
+ * 만료된 토큰도 서명은 확인된 것이므로 claims를 함께 돌려준다.
+ */
+public record TokenVerification(Status status, Claims claims, String reason) {
+
+    public enum Status {
+        VALID, EXPIRED, INVALID
+    }
+
+    public static TokenVerification valid(Claims claims) {
+        return new TokenVerification(Status.VALID, claims, null);
+    }
+
+    public static TokenVerification expired(Claims claims) {
+        return new TokenVerification(Status.EXPIRED, claims, "expired");
+    }
+
+    public static TokenVerification invalid(String reason) {
+        return new TokenVerification(Status.INVALID, null, reason);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
@@ -0,0 +1,55 @@
+package com.company.edu.service.grading;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerNormalizerTest {
+
+    @Test
+    void 분수와_소수는_같은_기약분수가_된다() {
+        assertThat(AnswerNormalizer.normalize("1/2")).isEqualTo("1/2");
+        assertThat(AnswerNormalizer.normalize("2/4")).isEqualTo("1/2");
+        assertThat(AnswerNormalizer.normalize("0.5")).isEqualTo("1/2");
+        assertThat(AnswerNormalizer.normalize("\\frac{2}{4}")).isEqualTo("1/2");
+        assertThat(AnswerNormalizer.normalize("-\\frac{3}{6}")).isEqualTo("-1/2");
+        assertThat(AnswerNormalizer.normalize("3/-6")).isEqualTo("-1/2");
+        assertThat(AnswerNormalizer.normalize("4/2")).isEqualTo("2");
+        assertThat(AnswerNormalizer.normalize("2.0")).isEqualTo("2");
+    }
+
+    @Test
+    void 분모가_0이면_숫자로_바꾸지_않는다() {
+        assertThat(AnswerNormalizer.normalize("1/0")).isEqualTo("1/0");
+    }
+
+    @Test
+    void 대분수는_가분수가_된다() {
+        assertThat(AnswerNormalizer.normalize("1 1/2")).isEqualTo("3/2");
+        assertThat(AnswerNormalizer.normalize("-2 2/4")).isEqualTo("-5/2");
+    }
+
+    @Test
+    void NFKC로_전각_문자와_공백을_정리한다() {
+        assertThat(AnswerNormalizer.normalize("１２")).isEqualTo("12");
+        assertThat(AnswerNormalizer.normalize("−３")).isEqualTo("-3");
+        assertThat(AnswerNormalizer.normalize("  x + 1  ")).isEqualTo("x+1");
+        assertThat(AnswerNormalizer.normalize("AB")).isEqualTo("ab");
+        assertThat(AnswerNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void 객관식_보기_번호를_읽는다() {
+        assertThat(AnswerNormalizer.optionNumber("3")).isEqualTo(3);
+        assertThat(AnswerNormalizer.optionNumber("3번")).isEqualTo(3);
+        assertThat(AnswerNormalizer.optionNumber(" ３ 번 ")).isEqualTo(3);
+        assertThat(AnswerNormalizer.optionNumber("①")).isEqualTo(1);
+        assertThat(AnswerNormalizer.optionNumber("가")).isNull();
+    }
+
+    @Test
+    void 너무_긴_숫자는_문자열로_비교한다() {
+        String longDecimal = "0." + "0".repeat(100) + "1";
+        assertThat(AnswerNormalizer.normalize(longDecimal)).isEqualTo(longDecimal);
+    }
+}
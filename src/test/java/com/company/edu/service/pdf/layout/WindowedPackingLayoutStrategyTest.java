@@ -0,0 +1,83 @@
+package com.company.edu.service.pdf.layout;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WindowedPackingLayoutStrategyTest {
+
+    private static final PdfLayoutStrategy.PageFrame FRAME = new PdfLayoutStrategy.PageFrame(1000, 1000, 0);
+
+    private static WindowedPackingLayoutStrategy strategy(int window) {
+        WindowedPackingLayoutStrategy strategy = new WindowedPackingLayoutStrategy();
+        ReflectionTestUtils.setField(strategy, "window", window);
+        return strategy;
+    }
+
+    private static PdfLayoutStrategy.Block block(float height) {
+        return new PdfLayoutStrategy.Block(height, height);
+    }
+
+    @Test
+    void 안_들어가는_큰_문제는_window_1개까지만_추월당한다() {
+        List<PdfLayoutStrategy.Block> blocks = new ArrayList<>();
+        blocks.add(block(600));
+        blocks.add(block(600));
+        blocks.add(block(900)); // 첫 페이지 남은 공간(400)에 안 들어감
+        for (int i = 0; i < 20; i++) {
+            blocks.add(block(50));
+        }
+
+        List<PdfLayoutStrategy.Placement> placements = strategy(2).place(blocks, FRAME);
+
+        assertThat(placements.get(0).page()).isEqualTo(1);
+        assertThat(placements.get(1).page()).isEqualTo(1);
+        assertThat(placements.get(2).page()).isEqualTo(2);
+        assertThat(placements.get(3).page()).isEqualTo(1);
+        // head(2) + window 이후 문제는 큰 문제보다 앞 페이지로 갈 수 없음
+        for (int i = 4; i < blocks.size(); i++) {
+            assertThat(placements.get(i).page()).isGreaterThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void window_이상_떨어진_문제는_앞_페이지로_가지_않는다() {
+        Random random = new Random(42);
+        for (int window : new int[]{1, 2, 4, 6}) {
+            for (int round = 0; round < 200; round++) {
+                List<PdfLayoutStrategy.Block> blocks = new ArrayList<>();
+                int count = 1 + random.nextInt(40);
+                for (int i = 0; i < count; i++) {
+                    blocks.add(block(30 + random.nextInt(1100)));
+                }
+
+                List<PdfLayoutStrategy.Placement> placements = strategy(window).place(blocks, FRAME);
+
+                assertThat(placements).hasSize(count).doesNotContainNull();
+                for (int i = 0; i < count; i++) {
+                    for (int j = i + window; j < count; j++) {
+                        assertThat(placements.get(j).page())
+                                .as("window=%d, %d번이 %d번보다 앞 페이지", window, j, i)
+                                .isGreaterThanOrEqualTo(placements.get(i).page());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void window가_1이면_원래_순서대로_배치한다() {
+        List<PdfLayoutStrategy.Block> blocks = List.of(block(600), block(900), block(100), block(300));
+
+        List<PdfLayoutStrategy.Placement> placements = strategy(1).place(blocks, FRAME);
+
+        for (int i = 1; i < blocks.size(); i++) {
+            assertThat(placements.get(i).page()).isGreaterThanOrEqualTo(placements.get(i - 1).page());
+        }
+    }
+}